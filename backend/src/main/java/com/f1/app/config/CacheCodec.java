@@ -0,0 +1,52 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Value encoding for one Redis cache. The {@link #id()} is written as the
+ * first byte of every entry, so ids must never be reused for a different
+ * format.
+ */
+public interface CacheCodec {
+
+    byte JSON = 1;
+    byte SMILE = 2;
+
+    byte id();
+
+    byte[] encode(Object value) throws IOException;
+
+    Object decode(byte[] bytes) throws IOException;
+
+    static CacheCodec json(ObjectMapper mapper, JavaType type) {
+        return new JacksonCodec(JSON, mapper, type);
+    }
+
+    /**
+     * Binary JSON: same data model, but repeated field names are written once
+     * and referenced afterwards, which suits lists of identical DTOs.
+     */
+    static CacheCodec smile(JavaType type) {
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        mapper.registerModule(new JavaTimeModule());
+        return new JacksonCodec(SMILE, mapper, type);
+    }
+
+    record JacksonCodec(byte id, ObjectMapper mapper, JavaType type) implements CacheCodec {
+
+        @Override
+        public byte[] encode(Object value) throws IOException {
+            return mapper.writeValueAsBytes(value);
+        }
+
+        @Override
+        public Object decode(byte[] bytes) throws IOException {
+            return mapper.readValue(bytes, type);
+        }
+    }
+}
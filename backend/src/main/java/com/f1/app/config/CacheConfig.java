@@ -8,24 +8,28 @@ import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import com.f1.app.dto.ChampionDTO;
 import com.f1.app.dto.RaceDTO;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @EnableCaching
 @Configuration
@@ -43,15 +47,35 @@ public class CacheConfig {
     private String redisUsername;
 
     private static final Duration DEFAULT_TTL = Duration.ofHours(1);
-
+    // A full season is well above this; single champions stay uncompressed
+    private static final int COMPRESSION_THRESHOLD = 4096;
+    private static final TieredCacheManager.Spec DEFAULT_SPEC =
+            new TieredCacheManager.Spec(100, Duration.ofMinutes(30), DEFAULT_TTL);
+
+    /**
+     * The cache manager behind {@code @Cacheable}: Caffeine in front of Redis,
+     * so instances share fills and a restart starts warm.
+     */
     @Bean
     @Primary
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(30))
-                .maximumSize(100));
-        return cacheManager;
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager, CacheInvalidationBus invalidationBus,
+            CacheExpiryPolicy seasonExpiryPolicy, MeterRegistry meterRegistry) {
+        return new TieredCacheManager(cacheSpecs(seasonExpiryPolicy), DEFAULT_SPEC, redisCacheManager,
+                invalidationBus, meterRegistry);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper mapper) {
+        return new CacheInvalidationBus(redisTemplate, mapper);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory factory,
+            CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
     }
 
     @Bean
@@ -72,30 +96,67 @@ public class CacheConfig {
     }
 
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory factory, ObjectMapper mapper) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory factory, ObjectMapper mapper,
+            CacheExpiryPolicy seasonExpiryPolicy) {
+        Map<String, TieredCacheManager.Spec> specs = cacheSpecs(seasonExpiryPolicy);
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
-        // Configure races cache
+        // Codec per cache; entries written by any earlier codec stay readable
         JavaType raceListType = mapper.getTypeFactory().constructCollectionType(List.class, RaceDTO.class);
-        Jackson2JsonRedisSerializer<?> raceSerializer = new Jackson2JsonRedisSerializer<>(mapper, raceListType);
+        RedisSerializer<Object> raceSerializer = versionedSerializer(mapper, raceListType,
+                CacheCodec.smile(raceListType));
         cacheConfigurations.put("races", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(DEFAULT_TTL)
+                .entryTtl(l2Ttl(specs.get("races")))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(raceSerializer)));
 
-        // Configure champions cache
         JavaType championListType = mapper.getTypeFactory().constructCollectionType(List.class, ChampionDTO.class);
-        Jackson2JsonRedisSerializer<?> championSerializer = new Jackson2JsonRedisSerializer<>(mapper, championListType);
+        RedisSerializer<Object> championSerializer = versionedSerializer(mapper, championListType,
+                CacheCodec.smile(championListType));
         cacheConfigurations.put("champions", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(DEFAULT_TTL)
+                .entryTtl(l2Ttl(specs.get("champions")))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(championSerializer)));
 
+        // Last known good copies served while Ergast is unavailable; never expire
+        cacheConfigurations.put("races-stale", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ZERO)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(raceSerializer)));
+        JavaType championType = mapper.getTypeFactory().constructType(ChampionDTO.class);
+        RedisSerializer<Object> staleChampionSerializer = versionedSerializer(mapper, championType,
+                CacheCodec.smile(championType));
+        cacheConfigurations.put("champions-stale", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ZERO)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(staleChampionSerializer)));
+
         // Default configuration for other caches
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(DEFAULT_TTL);
+                .entryTtl(DEFAULT_SPEC.l2Ttl());
 
         return RedisCacheManager.builder(factory)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .cacheDefaults(defaultConfig)
                 .build();
     }
-} 
+
+    private static RedisSerializer<Object> versionedSerializer(ObjectMapper mapper, JavaType type, CacheCodec writer) {
+        return new VersionedRedisSerializer(writer,
+                List.of(CacheCodec.json(mapper, type), CacheCodec.smile(type)), COMPRESSION_THRESHOLD);
+    }
+
+    private static Map<String, TieredCacheManager.Spec> cacheSpecs(CacheExpiryPolicy seasonExpiryPolicy) {
+        return Map.of(
+                // One entry per season, kept as long as the season can still change
+                "races", new TieredCacheManager.Spec(50, Duration.ofMinutes(30), DEFAULT_TTL, seasonExpiryPolicy),
+                "champions", new TieredCacheManager.Spec(20, Duration.ofMinutes(30), DEFAULT_TTL));
+    }
+
+    private static RedisCacheWriter.TtlFunction l2Ttl(TieredCacheManager.Spec spec) {
+        CacheExpiryPolicy expiry = spec.expiry();
+        if (expiry == null) {
+            return RedisCacheWriter.TtlFunction.just(spec.l2Ttl());
+        }
+        return (key, value) -> {
+            Duration ttl = expiry.ttl(key);
+            return ttl != null ? ttl : Duration.ZERO;
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.f1.app.config;
+
+import java.time.Duration;
+
+/**
+ * Per-entry lifetime for caches whose entries do not all age the same way.
+ * Applied to both tiers; overrides the fixed TTLs of the cache's spec.
+ */
+public interface CacheExpiryPolicy {
+
+    /** Lifetime of the entry for {@code key}, or {@code null} to keep it until evicted. */
+    Duration ttl(Object key);
+}
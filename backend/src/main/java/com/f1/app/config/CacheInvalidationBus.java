@@ -0,0 +1,124 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts cache evictions over a Redis channel so every instance drops
+ * the same keys from its in-process L1. Each message carries a version
+ * taken from a shared Redis counter; a node that sees a gap in versions,
+ * or finds the counter ahead of it after a reconnect, cannot know which
+ * keys it missed and clears its whole L1 instead.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    static final String CHANNEL = "cache-invalidation";
+    static final String VERSION_KEY = "cache-invalidation:version";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong lastVersion = new AtomicLong(-1);
+    private volatile Listener listener;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Tells the other nodes to drop {@code key} from their L1, or the whole
+     * cache when {@code key} is null. Keys that are not JSON scalars are
+     * broadcast as a clear of the cache.
+     */
+    public void publish(String cache, Object key) {
+        Object broadcastKey = key instanceof String || key instanceof Number ? key : null;
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            Invalidation invalidation = new Invalidation(version != null ? version : 0, nodeId, cache, broadcastKey);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+            advance(invalidation.version());
+        } catch (Exception e) {
+            // Other nodes fall back to their L1 TTL, or resync once the version moves on
+            log.warn("Failed to broadcast invalidation of {}::{}: {}", cache, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+            return;
+        }
+
+        boolean gap = advance(invalidation.version());
+        Listener current = listener;
+        if (current == null) {
+            return;
+        }
+        if (gap) {
+            log.info("Missed cache invalidations before version {}, clearing local caches", invalidation.version());
+            current.clearLocal();
+        } else if (!nodeId.equals(invalidation.node())) {
+            current.evictLocal(invalidation.cache(), invalidation.key());
+        }
+    }
+
+    /**
+     * Catches up after a dropped subscription: messages published while
+     * disconnected are lost, but the shared counter still moved on.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.resync-interval:30s}")
+    public void resync() {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY);
+            long version = value != null ? Long.parseLong(value) : 0;
+            long previous = lastVersion.getAndAccumulate(version, Math::max);
+            if (previous >= 0 && version > previous && listener != null) {
+                log.info("Cache invalidation version moved from {} to {} unseen, clearing local caches",
+                        previous, version);
+                listener.clearLocal();
+            }
+        } catch (Exception e) {
+            log.debug("Cache invalidation resync skipped: {}", e.getMessage());
+        }
+    }
+
+    // Returns true when versions between the last one seen and this one were skipped
+    private boolean advance(long version) {
+        long previous = lastVersion.getAndAccumulate(version, Math::max);
+        return previous >= 0 && version > previous + 1;
+    }
+
+    public record Invalidation(long version, String node, String cache, Object key) {
+    }
+
+    /**
+     * Local side of an invalidation; implemented by the cache manager.
+     */
+    public interface Listener {
+
+        /** Drops {@code key} from the local tier, or the whole cache when {@code key} is null. */
+        void evictLocal(String cache, Object key);
+
+        void clearLocal();
+    }
+}
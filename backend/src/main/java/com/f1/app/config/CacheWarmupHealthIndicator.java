@@ -0,0 +1,35 @@
+package com.f1.app.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.service.CacheWarmupService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Part of the readiness group: out of service until the startup cache
+ * warm-up has finished or timed out.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        return cacheWarmupService.report()
+                .map(report -> Health.up()
+                        .withDetail("champions", report.champions())
+                        .withDetail("seasonsFromCache", report.seasonsFromCache())
+                        .withDetail("seasonsFromDatabase", report.seasonsFromDatabase())
+                        .withDetail("seasonsMissing", report.seasonsMissing())
+                        .withDetail("elapsedMs", report.elapsed().toMillis())
+                        .build())
+                .orElseGet(() -> cacheWarmupService.isTimedOut()
+                        ? Health.up().withDetail("warmup", "timed out, still running").build()
+                        : Health.outOfService().withDetail("warmup", "in progress").build());
+    }
+}
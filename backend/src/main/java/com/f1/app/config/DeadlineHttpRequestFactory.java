@@ -0,0 +1,173 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Adds a total-call deadline on top of the connect/read timeouts: a request
+ * still running (including body streaming) after {@code callTimeout} is
+ * aborted. The clock starts when the request is created, i.e. after the
+ * rate-limit interceptor has granted a permit, and stops when the response
+ * is closed or the call fails, so finished calls do not keep a scheduled
+ * task around.
+ */
+public class DeadlineHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final Duration callTimeout;
+    private final ScheduledThreadPoolExecutor scheduler;
+    // Hands the deadline scheduled in createHttpUriRequest back to createRequest on the same thread
+    private final ThreadLocal<ScheduledFuture<?>> scheduledDeadline = new ThreadLocal<>();
+
+    public DeadlineHttpRequestFactory(HttpClient httpClient, Duration callTimeout) {
+        super(httpClient);
+        this.callTimeout = callTimeout;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ergast-deadline-");
+        threadFactory.setDaemon(true);
+        this.scheduler = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        try {
+            request = super.createRequest(uri, httpMethod);
+        } catch (IOException | RuntimeException e) {
+            cancel(takeDeadline());
+            throw e;
+        }
+        ScheduledFuture<?> deadline = takeDeadline();
+        return deadline != null ? new DeadlineRequest(request, deadline) : request;
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        if (request instanceof Cancellable cancellable) {
+            // Cancelling a request that already completed is a no-op
+            scheduledDeadline.set(
+                    scheduler.schedule(cancellable::cancel, callTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
+        return request;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        scheduler.shutdownNow();
+        super.destroy();
+    }
+
+    private ScheduledFuture<?> takeDeadline() {
+        ScheduledFuture<?> deadline = scheduledDeadline.get();
+        scheduledDeadline.remove();
+        return deadline;
+    }
+
+    private static void cancel(ScheduledFuture<?> deadline) {
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+    }
+
+    private static class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final ScheduledFuture<?> deadline;
+
+        DeadlineRequest(ClientHttpRequest delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException e) {
+                cancel(deadline);
+                throw e;
+            }
+        }
+    }
+
+    private static class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> deadline;
+
+        DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            cancel(deadline);
+            delegate.close();
+        }
+    }
+}
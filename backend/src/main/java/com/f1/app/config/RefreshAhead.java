@@ -0,0 +1,20 @@
+package com.f1.app.config;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Refresh-ahead settings for a {@link TieredCache}. Once an entry has lived
+ * {@code fraction} of its TTL, the next read still returns it but also
+ * starts a background reload through {@code loader} on {@code executor}.
+ * The loader returns {@code null} when it has nothing better than the
+ * cached value, which is then kept until it expires.
+ */
+public record RefreshAhead(Function<Object, Object> loader, double fraction, Executor executor) {
+
+    public RefreshAhead {
+        if (fraction <= 0 || fraction >= 1) {
+            throw new IllegalArgumentException("Refresh-ahead fraction must be between 0 and 1: " + fraction);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.f1.app.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the replica's replication delay and keeps it out of rotation while
+ * it is unreachable, not replicating, or further behind than the tolerance.
+ * Publishes {@code datasource.replica.lag}, {@code datasource.replica.available}
+ * and {@code datasource.replica.fallback}.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String REPLICA_STATUS = "SHOW REPLICA STATUS";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final Counter fallbacks;
+    private volatile boolean available;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.fallbacks = Counter.builder("datasource.replica.fallback")
+                .description("Times the replica was taken out of rotation")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replication delay of the read replica, -1 when unknown")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:10s}")
+    public void check() {
+        try {
+            Long lag = replicaJdbcTemplate.query(REPLICA_STATUS,
+                    rs -> rs.next() ? rs.getObject("Seconds_Behind_Source", Long.class) : null);
+            update(lag);
+        } catch (Exception e) {
+            markUnavailable(e);
+        }
+    }
+
+    // A null delay means replication is stopped or the server is not a replica
+    void update(Long lag) {
+        lagSeconds = lag != null ? lag : -1;
+        boolean healthy = lag != null && lag <= maxLag.toSeconds();
+        if (healthy != available) {
+            log.info("Read replica {} (lag: {}s, tolerance: {}s)", healthy ? "back in rotation" : "out of rotation",
+                    lag, maxLag.toSeconds());
+            if (!healthy) {
+                fallbacks.increment();
+            }
+        }
+        available = healthy;
+    }
+
+    void markUnavailable(Exception cause) {
+        if (available) {
+            log.warn("Read replica out of rotation: {}", cause.getMessage());
+            fallbacks.increment();
+        }
+        available = false;
+        lagSeconds = -1;
+    }
+}
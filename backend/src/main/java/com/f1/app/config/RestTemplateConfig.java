@@ -1,14 +1,89 @@
 package com.f1.app.config;
 
+import java.net.URI;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Keep-alive pool shared by every Ergast call, so paginated and parallel
+     * fetches reuse TLS connections instead of handshaking per request.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager ergastConnectionManager(
+            @Value("${api.ergast.http.max-connections:20}") int maxConnections,
+            @Value("${api.ergast.http.max-connections-per-route:8}") int maxConnectionsPerRoute,
+            @Value("${api.ergast.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${api.ergast.http.read-timeout:20s}") Duration readTimeout,
+            @Value("${api.ergast.http.connection-ttl:5m}") Duration connectionTtl) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Content compression is on by default in HttpClients.custom(): requests
+     * send Accept-Encoding: gzip, deflate and bodies are inflated lazily while
+     * the Jackson reader consumes the stream.
+     */
+    @Bean
+    public DeadlineHttpRequestFactory ergastRequestFactory(
+            PoolingHttpClientConnectionManager ergastConnectionManager,
+            @Value("${api.ergast.http.read-timeout:20s}") Duration readTimeout,
+            @Value("${api.ergast.http.pool-wait-timeout:5s}") Duration poolWaitTimeout,
+            @Value("${api.ergast.http.idle-timeout:60s}") Duration idleTimeout,
+            @Value("${api.ergast.http.call-timeout:30s}") Duration callTimeout) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(ergastConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolWaitTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+        return new DeadlineHttpRequestFactory(httpClient, callTimeout);
+    }
+
+    @Bean
+    public UpstreamConnectionPoolMetrics upstreamConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager ergastConnectionManager,
+            MeterRegistry meterRegistry,
+            @Value("${api.ergast.baseUrl}") String baseUrl) {
+        return new UpstreamConnectionPoolMetrics(ergastConnectionManager, meterRegistry, URI.create(baseUrl).getHost());
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(DeadlineHttpRequestFactory ergastRequestFactory,
+            UpstreamCircuitBreakerInterceptor circuitBreakerInterceptor,
+            UpstreamRateLimitInterceptor rateLimitInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(ergastRequestFactory);
+        // Circuit breaker first so an open circuit fails fast without waiting for a permit
+        restTemplate.getInterceptors().add(circuitBreakerInterceptor);
+        restTemplate.getInterceptors().add(rateLimitInterceptor);
+        return restTemplate;
     }
 }
@@ -0,0 +1,290 @@
+package com.f1.app.config;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache over an in-process L1 and a shared Redis L2. Lookups
+ * try L1, then L2 (promoting hits into L1), then the loader; writes and
+ * evictions go to both tiers. Redis errors are logged and treated as a
+ * miss, so an unavailable L2 only costs the extra load. Evictions are also
+ * broadcast so other instances drop the key from their own L1.
+ * Hits and misses are counted in {@code cache.tier.gets{cache,tier,result}}.
+ * With {@link RefreshAhead} enabled, entries close to expiry are reloaded in
+ * the background on read, at most one reload per key at a time; outcomes are
+ * counted in {@code cache.refresh{cache,result}}. A reload whose key is
+ * evicted or cleared while it runs is discarded, so it cannot put back data
+ * an ingestion has just replaced.
+ */
+@Slf4j
+public class TieredCache implements Cache {
+
+    private final String name;
+    private final Cache l1;
+    private final Cache l2;
+    private final CacheInvalidationBus invalidationBus;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final CacheExpiryPolicy lifetime;
+    private final MeterRegistry meterRegistry;
+    // Refresh deadlines (System.nanoTime) of the entries currently in L1
+    private final ConcurrentMap<Object, Long> refreshDue = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    // Eviction generations: a reload started before its key's last eviction is stale
+    private final AtomicLong evictions = new AtomicLong();
+    private final ConcurrentMap<Object, Long> evictedAt = new ConcurrentHashMap<>();
+    private volatile long clearedAt;
+    // Held for reading while a reload checks its generation and stores, for writing while an eviction is recorded
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private volatile RefreshAhead refreshAhead;
+    private Counter refreshSuccesses;
+    private Counter refreshFailures;
+    private Counter refreshDiscarded;
+
+    public TieredCache(String name, Cache l1, Cache l2, CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry) {
+        this(name, l1, l2, invalidationBus, meterRegistry, key -> null);
+    }
+
+    /**
+     * {@code lifetime} gives the L1 TTL of each entry; refresh-ahead is only
+     * applied to entries that expire.
+     */
+    public TieredCache(String name, Cache l1, Cache l2, CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry, CacheExpiryPolicy lifetime) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+        this.lifetime = lifetime;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void enableRefreshAhead(RefreshAhead refreshAhead) {
+        this.refreshSuccesses = refreshCounter("success");
+        this.refreshFailures = refreshCounter("failure");
+        this.refreshDiscarded = refreshCounter("discarded");
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = l1.get(key);
+        if (value != null) {
+            l1Hits.increment();
+            refreshIfDue(key);
+            return value;
+        }
+        l1Misses.increment();
+
+        value = getFromL2(key);
+        if (value != null) {
+            l2Hits.increment();
+            putLocal(key, value.get());
+            return value;
+        }
+        l2Misses.increment();
+        refreshDue.remove(key);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putLocal(key, value);
+        try {
+            l2.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {}::{} to Redis: {}", name, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(key);
+        try {
+            l2.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {}::{} from Redis: {}", name, key, e.getMessage());
+        }
+        invalidationBus.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+        try {
+            l2.clear();
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear {} in Redis: {}", name, e.getMessage());
+        }
+        invalidationBus.publish(name, null);
+    }
+
+    /** Drops {@code key} from L1 only, after another instance evicted it. */
+    public void evictLocal(Object key) {
+        recordEviction(() -> evictedAt.put(key, evictions.incrementAndGet()));
+        l1.evict(key);
+        refreshDue.remove(key);
+    }
+
+    public void clearLocal() {
+        recordEviction(() -> {
+            clearedAt = evictions.incrementAndGet();
+            evictedAt.clear();
+        });
+        l1.clear();
+        refreshDue.clear();
+    }
+
+    // Recorded before the tiers are touched: a reload either stored before
+    // this point and is removed with the entry, or sees the new generation
+    private void recordEviction(Runnable record) {
+        generationLock.writeLock().lock();
+        try {
+            record.run();
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+    }
+
+    private boolean evictedSince(Object key, long generation) {
+        return clearedAt > generation || evictedAt.getOrDefault(key, 0L) > generation;
+    }
+
+    private void putLocal(Object key, Object value) {
+        l1.put(key, value);
+        RefreshAhead settings = refreshAhead;
+        Duration ttl = settings != null ? lifetime.ttl(key) : null;
+        if (ttl == null) {
+            refreshDue.remove(key);
+            return;
+        }
+        refreshDue.put(key, System.nanoTime() + (long) (ttl.toNanos() * settings.fraction()));
+    }
+
+    private void refreshIfDue(Object key) {
+        RefreshAhead settings = refreshAhead;
+        Long due = refreshDue.get(key);
+        if (settings == null || due == null || System.nanoTime() - due < 0 || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            settings.executor().execute(() -> refresh(settings, key));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    // The old value stays readable until the reload replaces it in one put
+    private void refresh(RefreshAhead settings, Object key) {
+        long generation = evictions.get();
+        try {
+            Object value = settings.loader().apply(key);
+            if (value == null) {
+                refreshFailures.increment();
+                log.debug("Refresh of {}::{} returned nothing, keeping cached value", name, key);
+                return;
+            }
+            generationLock.readLock().lock();
+            try {
+                if (evictedSince(key, generation)) {
+                    refreshDiscarded.increment();
+                    log.debug("Discarding refresh of {}::{}, evicted while it ran", name, key);
+                    return;
+                }
+                put(key, value);
+            } finally {
+                generationLock.readLock().unlock();
+            }
+            refreshSuccesses.increment();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("Refresh of {}::{} failed, keeping cached value: {}", name, key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private ValueWrapper getFromL2(Object key) {
+        try {
+            return l2.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {}::{} from Redis: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter refreshCounter(String result) {
+        return Counter.builder("cache.refresh")
+                .description("Background refresh-ahead reloads")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
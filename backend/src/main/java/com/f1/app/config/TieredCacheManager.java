@@ -0,0 +1,126 @@
+package com.f1.app.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hands out {@link TieredCache}s: a Caffeine L1 sized per cache in front of
+ * the matching Redis cache, whose TTL is configured on the
+ * {@link RedisCacheManager}. Caches without a spec use {@code defaultSpec}.
+ * Invalidations broadcast by other instances are applied to the L1 tier.
+ */
+public class TieredCacheManager implements CacheManager, CacheInvalidationBus.Listener {
+
+    private final Map<String, Spec> specs;
+    private final Spec defaultSpec;
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(Map<String, Spec> specs, Spec defaultSpec, RedisCacheManager redisCacheManager,
+            CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.specs = Map.copyOf(specs);
+        this.defaultSpec = defaultSpec;
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        invalidationBus.setListener(this);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    /** Turns on refresh-ahead for the named cache; see {@link TieredCache}. */
+    public void enableRefreshAhead(String name, RefreshAhead refreshAhead) {
+        caches.computeIfAbsent(name, this::createCache).enableRefreshAhead(refreshAhead);
+    }
+
+    @Override
+    public void evictLocal(String cache, Object key) {
+        TieredCache tieredCache = caches.get(cache);
+        if (tieredCache == null) {
+            return;
+        }
+        if (key == null) {
+            tieredCache.clearLocal();
+        } else {
+            tieredCache.evictLocal(key);
+        }
+    }
+
+    @Override
+    public void clearLocal() {
+        caches.values().forEach(TieredCache::clearLocal);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        names.addAll(specs.keySet());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    private TieredCache createCache(String name) {
+        Spec spec = specs.getOrDefault(name, defaultSpec);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(spec.l1MaxSize());
+        if (spec.expiry() != null) {
+            builder.expireAfter(new PolicyExpiry(spec.expiry()));
+        } else {
+            builder.expireAfterWrite(spec.l1Ttl());
+        }
+        CaffeineCache l1 = new CaffeineCache(name, builder.build());
+        CacheExpiryPolicy lifetime = spec.expiry() != null ? spec.expiry() : key -> spec.l1Ttl();
+        return new TieredCache(name, l1, redisCacheManager.getCache(name), invalidationBus, meterRegistry,
+                lifetime);
+    }
+
+    /**
+     * Per-cache sizing: entry bound and TTL of the in-process tier, and the
+     * TTL of the Redis tier ({@link Duration#ZERO} for no expiry). When an
+     * {@code expiry} policy is set it decides the lifetime of each entry in
+     * both tiers instead.
+     */
+    public record Spec(long l1MaxSize, Duration l1Ttl, Duration l2Ttl, CacheExpiryPolicy expiry) {
+
+        public Spec(long l1MaxSize, Duration l1Ttl, Duration l2Ttl) {
+            this(l1MaxSize, l1Ttl, l2Ttl, null);
+        }
+    }
+
+    private record PolicyExpiry(CacheExpiryPolicy policy) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            Duration ttl = policy.ttl(key);
+            return ttl != null ? ttl.toNanos() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.f1.app.config;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.service.UpstreamCircuitBreaker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outermost RestTemplate interceptor: rejects calls while the
+ * {@link UpstreamCircuitBreaker} is open, before they wait on the rate limiter,
+ * and reports each call's outcome back to it. A successful status is only
+ * reported once the body has been read, since read timeouts, deadline aborts
+ * and truncated bodies surface while the caller consumes it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamCircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        circuitBreaker.acquirePermission();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+
+        if (response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure();
+            return response;
+        }
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            circuitBreaker.onIgnored();
+            return response;
+        }
+        return new OutcomeRecordingResponse(response);
+    }
+
+    /**
+     * Reports a failure if reading the body throws, and a success when the
+     * response is closed without one. RestTemplate always closes it.
+     */
+    private class OutcomeRecordingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private InputStream body;
+
+        OutcomeRecordingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                try {
+                    body = new FailureRecordingStream(delegate.getBody());
+                } catch (IOException e) {
+                    recordFailure();
+                    throw e;
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (recorded.compareAndSet(false, true)) {
+                circuitBreaker.onSuccess();
+            }
+            delegate.close();
+        }
+
+        private void recordFailure() {
+            if (recorded.compareAndSet(false, true)) {
+                circuitBreaker.onFailure();
+            }
+        }
+
+        private class FailureRecordingStream extends FilterInputStream {
+
+            FailureRecordingStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                try {
+                    return super.read();
+                } catch (IOException e) {
+                    recordFailure();
+                    throw e;
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                try {
+                    return super.read(b, off, len);
+                } catch (IOException e) {
+                    recordFailure();
+                    throw e;
+                }
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                try {
+                    return super.skip(n);
+                } catch (IOException e) {
+                    recordFailure();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.f1.app.config;
+
+import java.util.function.ToIntFunction;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-route gauges for the Ergast connection pool:
+ * {@code ergast.http.pool.connections{route,state}} and
+ * {@code ergast.http.pool.max{route}}.
+ */
+public class UpstreamConnectionPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final String host;
+
+    public UpstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+            MeterRegistry meterRegistry, String host) {
+        this.connectionManager = connectionManager;
+        this.host = host;
+        registerState(meterRegistry, "leased", PoolStats::getLeased);
+        registerState(meterRegistry, "available", PoolStats::getAvailable);
+        registerState(meterRegistry, "pending", PoolStats::getPending);
+        Gauge.builder("ergast.http.pool.max", this, metrics -> metrics.sum(PoolStats::getMax))
+                .tag("route", host)
+                .description("Maximum connections allowed for the route")
+                .register(meterRegistry);
+    }
+
+    private void registerState(MeterRegistry meterRegistry, String state, ToIntFunction<PoolStats> stat) {
+        Gauge.builder("ergast.http.pool.connections", this, metrics -> metrics.sum(stat))
+                .tag("route", host)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    // Routes are keyed by scheme/port/proxy too, so sum every route to the host
+    private int sum(ToIntFunction<PoolStats> stat) {
+        return connectionManager.getRoutes().stream()
+                .filter(route -> host.equalsIgnoreCase(route.getTargetHost().getHostName()))
+                .mapToInt(route -> stat.applyAsInt(connectionManager.getStats(route)))
+                .sum();
+    }
+}
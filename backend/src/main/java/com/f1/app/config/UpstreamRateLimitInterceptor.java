@@ -0,0 +1,66 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.service.UpstreamRateLimiter;
+
+/**
+ * Puts every RestTemplate call behind the shared {@link UpstreamRateLimiter}
+ * and feeds 429 / Retry-After responses back into it.
+ */
+@Component
+public class UpstreamRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final Duration defaultRetryAfter;
+
+    public UpstreamRateLimitInterceptor(
+            UpstreamRateLimiter rateLimiter,
+            @Value("${api.ergast.rate-limit.default-retry-after:5s}") Duration defaultRetryAfter) {
+        this.rateLimiter = rateLimiter;
+        this.defaultRetryAfter = defaultRetryAfter;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        rateLimiter.acquire();
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            rateLimiter.onThrottled(parseRetryAfter(response.getHeaders().getFirst("Retry-After")));
+        } else if (response.getStatusCode().is2xxSuccessful()) {
+            rateLimiter.onSuccess();
+        }
+        return response;
+    }
+
+    Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return defaultRetryAfter;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try the HTTP-date form
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return defaultRetryAfter;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.f1.app.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis value serializer that prefixes every entry with a codec id byte and
+ * a flags byte, then the encoded value, deflated when it is larger than
+ * {@code compressionThreshold}. Entries are written with one codec but read
+ * with any registered one, so changing a cache's codec never breaks reads
+ * of entries written before the rollout. Entries without a header are plain
+ * JSON from before this format and are read with the JSON codec.
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte FLAG_DEFLATED = 0x1;
+    private static final int HEADER_LENGTH = 2;
+
+    private final CacheCodec writer;
+    private final Map<Byte, CacheCodec> readers = new HashMap<>();
+    private final int compressionThreshold;
+
+    public VersionedRedisSerializer(CacheCodec writer, List<CacheCodec> readers, int compressionThreshold) {
+        this.writer = writer;
+        this.compressionThreshold = compressionThreshold;
+        readers.forEach(codec -> this.readers.put(codec.id(), codec));
+        this.readers.put(writer.id(), writer);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] payload = writer.encode(value);
+            byte flags = 0;
+            if (payload.length > compressionThreshold) {
+                payload = deflate(payload);
+                flags |= FLAG_DEFLATED;
+            }
+            byte[] entry = new byte[HEADER_LENGTH + payload.length];
+            entry[0] = writer.id();
+            entry[1] = flags;
+            System.arraycopy(payload, 0, entry, HEADER_LENGTH, payload.length);
+            return entry;
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode cache value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            CacheCodec codec = readers.get(bytes[0]);
+            if (codec == null) {
+                // Legacy entry: headerless JSON text
+                return decodeLegacy(bytes);
+            }
+            byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            if ((bytes[1] & FLAG_DEFLATED) != 0) {
+                payload = inflate(payload);
+            }
+            return codec.decode(payload);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not decode cache value", e);
+        }
+    }
+
+    private Object decodeLegacy(byte[] bytes) throws IOException {
+        CacheCodec json = readers.get(CacheCodec.JSON);
+        if (json == null) {
+            throw new SerializationException("Unknown cache codec id " + bytes[0]);
+        }
+        return json.decode(bytes);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated deflated cache value");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -2,15 +2,19 @@ package com.f1.app.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.f1.app.dto.ChampionDTO;
+import com.f1.app.exception.UpstreamUnavailableException;
 import com.f1.app.service.ChampionService;
+import com.f1.app.service.StaleDataStore;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,11 +30,13 @@ import lombok.extern.slf4j.Slf4j;
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:4200", "https://f1-world-champions.vercel.app"})
+@CrossOrigin(origins = {"http://localhost:4200", "https://f1-world-champions.vercel.app"}, exposedHeaders = "X-Data-Stale")
 @Tag(name = "Champions", description = "F1 World Champions API")
 public class ChampionController {
 
     private final ChampionService championService;
+    private final StaleDataStore staleDataStore;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
             summary = "Get all world champions (from 2005 to now)",
@@ -47,8 +53,12 @@ public class ChampionController {
             )
     })
     @GetMapping("/champions")
-    public ResponseEntity<List<ChampionDTO>> getChampions() {
-        return championService.getChampions();
+    public ResponseEntity<byte[]> getChampions(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // The snapshot list is serialized once; later hits write the stored bytes
+        List<ChampionDTO> champions = championService.getChampions().getBody();
+        return responseBodyCache.ok("champions", champions, acceptEncoding);
     }
 
     @Operation(
@@ -68,6 +78,11 @@ public class ChampionController {
                     responseCode = "404",
                     description = "No champion found for the specified year",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Upstream unavailable and no last known good data",
+                    content = @Content
             )
     })
     @GetMapping("/champions/{year}")
@@ -75,6 +90,14 @@ public class ChampionController {
             @Parameter(description = "Year to get champion for (e.g. 2023)")
             @PathVariable Integer year
     ) {
-        return championService.getChampion(year);
+        try {
+            return championService.getChampion(year);
+        } catch (UpstreamUnavailableException e) {
+            // Served outside the cached service call so stale data is never cached as fresh
+            log.warn("Ergast unavailable, serving last known good champion for year {}", year);
+            return staleDataStore.getChampion(year)
+                    .map(stale -> ResponseEntity.ok().headers(StaleResponse.headers()).body(stale))
+                    .orElseThrow(() -> e);
+        }
     }
 }
@@ -1,7 +1,9 @@
 package com.f1.app.controller;
 
 import com.f1.app.dto.RaceDTO;
+import com.f1.app.exception.UpstreamUnavailableException;
 import com.f1.app.service.RaceService;
+import com.f1.app.service.StaleDataStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,11 +23,13 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:4200", "https://f1-world-champions.vercel.app"})
+@CrossOrigin(origins = {"http://localhost:4200", "https://f1-world-champions.vercel.app"}, exposedHeaders = "X-Data-Stale")
 @Tag(name = "Races", description = "F1 Race Results API")
 public class RaceController {
 
     private final RaceService raceService;
+    private final StaleDataStore staleDataStore;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
             summary = "Get races by year",
@@ -43,16 +48,33 @@ public class RaceController {
                     responseCode = "404",
                     description = "No races found for the specified year",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Upstream unavailable and no last known good data",
+                    content = @Content
             )
     })
     @GetMapping("/races/{year}")
-    public ResponseEntity<List<RaceDTO>> getRacesByYear(
+    public ResponseEntity<byte[]> getRacesByYear(
             @Parameter(description = "Year to get races for (e.g. 2023)")
-            @PathVariable Integer year
+            @PathVariable Integer year,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        List<RaceDTO> races = raceService.getRacesByYear(year);
+        List<RaceDTO> races;
+        try {
+            races = raceService.getRacesByYear(year);
+        } catch (UpstreamUnavailableException e) {
+            // Served outside the cached service call so stale data is never cached as fresh
+            log.warn("Ergast unavailable, serving last known good races for year {}", year);
+            return staleDataStore.getRaces(year)
+                    .map(stale -> responseBodyCache.ok("races-stale:" + year, stale, acceptEncoding,
+                            StaleResponse.headers()))
+                    .orElseThrow(() -> e);
+        }
+        // The cached list is serialized once; later hits write the stored bytes
         return races.isEmpty()
                 ? ResponseEntity.notFound().build()
-                : ResponseEntity.ok(races);
+                : responseBodyCache.ok("races:" + year, races, acceptEncoding);
     }
 } 
@@ -0,0 +1,93 @@
+package com.f1.app.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serialized JSON bodies for hot endpoints, kept as identity and gzip bytes
+ * and written to the response as-is. An entry is tied to the object it was
+ * encoded from: while the service keeps returning that same cached instance
+ * the bytes are reused, and a new instance (after an eviction or reload)
+ * is encoded again, so no separate invalidation is needed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    // Same floor as server.compression.min-response-size
+    static final int MIN_GZIP_SIZE = 1024;
+    private static final int MAX_ENTRIES = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, EncodedBody> bodies = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    public ResponseEntity<byte[]> ok(String key, Object body, String acceptEncoding) {
+        return ok(key, body, acceptEncoding, HttpHeaders.EMPTY);
+    }
+
+    public ResponseEntity<byte[]> ok(String key, Object body, String acceptEncoding, HttpHeaders headers) {
+        EncodedBody encoded = encode(key, body);
+        boolean gzip = encoded.gzip() != null && acceptsGzip(acceptEncoding);
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.addAll(headers);
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        responseHeaders.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            responseHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        byte[] bytes = gzip ? encoded.gzip() : encoded.identity();
+        responseHeaders.setContentLength(bytes.length);
+        return ResponseEntity.ok().headers(responseHeaders).body(bytes);
+    }
+
+    EncodedBody encode(String key, Object body) {
+        EncodedBody cached = bodies.getIfPresent(key);
+        if (cached != null && cached.source() == body) {
+            return cached;
+        }
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            EncodedBody encoded = new EncodedBody(body, identity,
+                    identity.length >= MIN_GZIP_SIZE ? gzip(identity) : null);
+            bodies.put(key, encoded);
+            return encoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize response body for " + key, e);
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] identity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code gzip} is null for bodies too small to be worth compressing.
+     */
+    record EncodedBody(Object source, byte[] identity, byte[] gzip) {
+    }
+}
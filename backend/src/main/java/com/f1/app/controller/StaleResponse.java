@@ -0,0 +1,23 @@
+package com.f1.app.controller;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Headers marking a response served from last known good data while Ergast
+ * is unavailable.
+ */
+final class StaleResponse {
+
+    static final String STALE_HEADER = "X-Data-Stale";
+
+    private StaleResponse() {
+    }
+
+    static HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(STALE_HEADER, "true");
+        headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        headers.setCacheControl("no-cache");
+        return headers;
+    }
+}
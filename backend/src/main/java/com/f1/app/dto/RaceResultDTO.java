@@ -11,10 +11,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RaceResultDTO {
-    private String position;
-    private String points;
-    private String grid;
-    private String laps;
+    private Integer position;
+    private String positionText;
+    private Float points;
+    private Integer grid;
+    private Integer laps;
     private String status;
     private DriverDTO driver;
     private ConstructorDTO constructor;
@@ -25,6 +26,7 @@ public class RaceResultDTO {
 
         RaceResultDTO.RaceResultDTOBuilder builder = RaceResultDTO.builder()
                 .position(result.getPosition())
+                .positionText(result.getPositionText())
                 .points(result.getPoints())
                 .grid(result.getGrid())
                 .laps(result.getLaps())
@@ -64,6 +66,7 @@ public class RaceResultDTO {
     public RaceResult toEntity() {
         RaceResult.RaceResultBuilder builder = RaceResult.builder()
                 .position(this.position)
+                .positionText(this.positionText)
                 .points(this.points)
                 .grid(this.grid)
                 .laps(this.laps)
@@ -127,7 +130,7 @@ public class RaceResultDTO {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class RaceTimeDTO {
-        private String millis;
+        private Long millis;
         private String time;
     }
 } 
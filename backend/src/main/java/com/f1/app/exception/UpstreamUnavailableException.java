@@ -0,0 +1,13 @@
+package com.f1.app.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown without calling Ergast while the upstream circuit breaker is open.
+ */
+public class UpstreamUnavailableException extends ServiceException {
+
+    public UpstreamUnavailableException() {
+        super("Ergast API is temporarily unavailable", "UPSTREAM_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+}
@@ -2,6 +2,7 @@ package com.f1.app.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "champions")
+@Table(name = "champions", indexes = @Index(name = "idx_champions_driver", columnList = "driverId"))
 public class Champion {
 
     @Id
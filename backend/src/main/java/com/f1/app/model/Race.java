@@ -17,7 +17,10 @@ import java.util.List;
 @Builder
 @ToString(exclude = "results")
 @EqualsAndHashCode(exclude = "results")
-@Table(name = "races")
+@Table(name = "races", uniqueConstraints = {
+        // Natural key used by RaceBulkWriter's ON DUPLICATE KEY UPDATE
+        @UniqueConstraint(name = "uk_races_season_round", columnNames = {"season", "round"})
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class Race implements Serializable {
@@ -67,8 +70,12 @@ public class Race implements Serializable {
         private static final long serialVersionUID = 1L;
 
         private String circuitId;
+        // Stored once in the circuits table, see DimensionRepository
+        @Transient
         private String circuitName;
+        @Transient
         private String locality;
+        @Transient
         private String country;
     }
 } 
@@ -15,7 +15,13 @@ import java.io.Serializable;
 @Builder
 @ToString(exclude = "race")
 @EqualsAndHashCode(exclude = "race")
-@Table(name = "race_results")
+// Mirrors db/migration; Flyway owns the schema
+@Table(name = "race_results", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_race_results_race_driver", columnNames = {"race_id", "driverId"})
+}, indexes = {
+        @Index(name = "idx_race_results_driver", columnList = "driverId"),
+        @Index(name = "idx_race_results_constructor", columnList = "constructor_id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class RaceResult implements Serializable {
 
@@ -25,10 +31,12 @@ public class RaceResult implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String position;
-    private String points;
-    private String grid;
-    private String laps;
+    private Integer position;
+    // Classification code as published: the position, or R/D/E/W/F/N for non-classified
+    private String positionText;
+    private Float points;
+    private Integer grid;
+    private Integer laps;
     private String status;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,11 +48,7 @@ public class RaceResult implements Serializable {
     private Driver driver;
 
     @Embedded
-    @AttributeOverrides({
-            @AttributeOverride(name = "constructorId", column = @Column(name = "constructor_id")),
-            @AttributeOverride(name = "name", column = @Column(name = "constructor_name")),
-            @AttributeOverride(name = "nationality", column = @Column(name = "constructor_nationality"))
-    })
+    @AttributeOverride(name = "constructorId", column = @Column(name = "constructor_id"))
     private Constructor constructor;
 
     @Embedded
@@ -67,9 +71,14 @@ public class RaceResult implements Serializable {
         private static final long serialVersionUID = 1L;
 
         private String driverId;
+        // Stored once in the drivers table, see DimensionRepository
+        @Transient
         private String code;
+        @Transient
         private String givenName;
+        @Transient
         private String familyName;
+        @Transient
         private String nationality;
     }
 
@@ -82,7 +91,10 @@ public class RaceResult implements Serializable {
         private static final long serialVersionUID = 1L;
 
         private String constructorId;
+        // Stored once in the constructors table, see DimensionRepository
+        @Transient
         private String name;
+        @Transient
         private String nationality;
     }
 
@@ -94,7 +106,7 @@ public class RaceResult implements Serializable {
     public static class RaceTime implements Serializable {
         private static final long serialVersionUID = 1L;
 
-        private String millis;
+        private Long millis;
         private String time;
     }
 } 
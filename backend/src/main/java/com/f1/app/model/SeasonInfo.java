@@ -20,6 +20,7 @@ public class SeasonInfo {
     @Id
     private Integer year;
     private Integer lastRoundNumber;
+    private Integer lastIngestedRound;
     private LocalDate lastRaceDate;
     private boolean isChampionAvailableForCurrentYear;
 } 
\ No newline at end of file
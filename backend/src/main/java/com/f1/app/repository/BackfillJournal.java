@@ -0,0 +1,56 @@
+package com.f1.app.repository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-unit progress of a backfill job in the backfill_journal table.
+ * Completion is written inside the unit's own transaction, so a unit is
+ * either stored and journaled or neither.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BackfillJournal {
+
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+    static final String SELECT_COMPLETED = "SELECT unit FROM backfill_journal WHERE job = ? AND status = '"
+            + COMPLETED + "'";
+    static final String MARK = "INSERT INTO backfill_journal (job, unit, status, attempts, last_error) "
+            + "VALUES (?, ?, ?, 1, ?) ON DUPLICATE KEY UPDATE status = VALUES(status), "
+            + "attempts = attempts + 1, last_error = VALUES(last_error)";
+    static final String CLEAR_COMPLETED = "DELETE FROM backfill_journal WHERE job = ? AND status = '"
+            + COMPLETED + "'";
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<Integer> completedUnits(String job) {
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_COMPLETED, Integer.class, job));
+    }
+
+    public void markCompleted(String job, int unit) {
+        jdbcTemplate.update(MARK, job, unit, COMPLETED, null);
+    }
+
+    public void markFailed(String job, int unit, String error) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        jdbcTemplate.update(MARK, job, unit, FAILED, message);
+    }
+
+    /**
+     * Called when a job has gone through every unit, so the next run starts
+     * from scratch instead of resuming.
+     */
+    public void clearCompleted(String job) {
+        jdbcTemplate.update(CLEAR_COMPLETED, job);
+    }
+}
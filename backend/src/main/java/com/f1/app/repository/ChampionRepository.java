@@ -3,10 +3,12 @@ package com.f1.app.repository;
 import com.f1.app.model.Champion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface ChampionRepository extends JpaRepository<Champion, Long> {
+    @Transactional(readOnly = true)
     Optional<Champion> findByYear(Integer year);
 } 
\ No newline at end of file
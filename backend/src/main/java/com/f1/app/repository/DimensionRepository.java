@@ -0,0 +1,161 @@
+package com.f1.app.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.dto.RaceResultDTO;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drivers, constructors and circuits, stored once in their own tables and
+ * referenced by id from races and race_results. The tables are small, so
+ * they are read into memory at startup and every projected race shares the
+ * same instances; ids seen for the first time are looked up on demand.
+ * Inside a transaction the dictionary only takes new values once it
+ * commits, so a rollback never leaves ids that have no row.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DimensionRepository {
+
+    static final String SELECT_DRIVERS = "SELECT driver_id, code, given_name, family_name, nationality FROM drivers";
+    static final String SELECT_CONSTRUCTORS = "SELECT constructor_id, name, nationality FROM constructors";
+    static final String SELECT_CIRCUITS = "SELECT circuit_id, circuit_name, locality, country FROM circuits";
+    static final String UPSERT_DRIVER = "INSERT INTO drivers (driver_id, code, given_name, family_name, nationality) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE code = VALUES(code), given_name = VALUES(given_name), "
+            + "family_name = VALUES(family_name), nationality = VALUES(nationality)";
+    static final String UPSERT_CONSTRUCTOR = "INSERT INTO constructors (constructor_id, name, nationality) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name), nationality = VALUES(nationality)";
+    static final String UPSERT_CIRCUIT = "INSERT INTO circuits (circuit_id, circuit_name, locality, country) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE circuit_name = VALUES(circuit_name), "
+            + "locality = VALUES(locality), country = VALUES(country)";
+
+    private static final RowMapper<RaceResultDTO.DriverDTO> DRIVER_MAPPER = (rs, rowNum) ->
+            new RaceResultDTO.DriverDTO(rs.getString("driver_id"), rs.getString("code"),
+                    rs.getString("given_name"), rs.getString("family_name"), rs.getString("nationality"));
+    private static final RowMapper<RaceResultDTO.ConstructorDTO> CONSTRUCTOR_MAPPER = (rs, rowNum) ->
+            new RaceResultDTO.ConstructorDTO(rs.getString("constructor_id"), rs.getString("name"),
+                    rs.getString("nationality"));
+    private static final RowMapper<RaceDTO.CircuitDTO> CIRCUIT_MAPPER = (rs, rowNum) ->
+            new RaceDTO.CircuitDTO(rs.getString("circuit_id"), rs.getString("circuit_name"),
+                    rs.getString("locality"), rs.getString("country"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, RaceResultDTO.DriverDTO> drivers = new ConcurrentHashMap<>();
+    private final Map<String, RaceResultDTO.ConstructorDTO> constructors = new ConcurrentHashMap<>();
+    private final Map<String, RaceDTO.CircuitDTO> circuits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        try {
+            jdbcTemplate.query(SELECT_DRIVERS, DRIVER_MAPPER).forEach(driver -> drivers.put(driver.getDriverId(), driver));
+            jdbcTemplate.query(SELECT_CONSTRUCTORS, CONSTRUCTOR_MAPPER)
+                    .forEach(constructor -> constructors.put(constructor.getConstructorId(), constructor));
+            jdbcTemplate.query(SELECT_CIRCUITS, CIRCUIT_MAPPER)
+                    .forEach(circuit -> circuits.put(circuit.getCircuitId(), circuit));
+            log.info("Loaded {} drivers, {} constructors and {} circuits", drivers.size(), constructors.size(),
+                    circuits.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not preload dimension tables, resolving on demand: {}", e.getMessage());
+        }
+    }
+
+    public RaceResultDTO.DriverDTO driver(String driverId) {
+        return resolve(drivers, driverId, SELECT_DRIVERS + " WHERE driver_id = ?", DRIVER_MAPPER);
+    }
+
+    public RaceResultDTO.ConstructorDTO constructor(String constructorId) {
+        return resolve(constructors, constructorId, SELECT_CONSTRUCTORS + " WHERE constructor_id = ?",
+                CONSTRUCTOR_MAPPER);
+    }
+
+    public RaceDTO.CircuitDTO circuit(String circuitId) {
+        return resolve(circuits, circuitId, SELECT_CIRCUITS + " WHERE circuit_id = ?", CIRCUIT_MAPPER);
+    }
+
+    /**
+     * Upserts the drivers that are new or differ from the stored row.
+     * Returns how many were written.
+     */
+    public int saveDrivers(Collection<RaceResultDTO.DriverDTO> incoming) {
+        return save(drivers, incoming, RaceResultDTO.DriverDTO::getDriverId, UPSERT_DRIVER,
+                driver -> new Object[]{driver.getDriverId(), driver.getCode(), driver.getGivenName(),
+                        driver.getFamilyName(), driver.getNationality()});
+    }
+
+    public int saveConstructors(Collection<RaceResultDTO.ConstructorDTO> incoming) {
+        return save(constructors, incoming, RaceResultDTO.ConstructorDTO::getConstructorId, UPSERT_CONSTRUCTOR,
+                constructor -> new Object[]{constructor.getConstructorId(), constructor.getName(),
+                        constructor.getNationality()});
+    }
+
+    public int saveCircuits(Collection<RaceDTO.CircuitDTO> incoming) {
+        return save(circuits, incoming, RaceDTO.CircuitDTO::getCircuitId, UPSERT_CIRCUIT,
+                circuit -> new Object[]{circuit.getCircuitId(), circuit.getCircuitName(), circuit.getLocality(),
+                        circuit.getCountry()});
+    }
+
+    private <T> T resolve(Map<String, T> dictionary, String id, String sql, RowMapper<T> mapper) {
+        if (id == null) {
+            return null;
+        }
+        T value = dictionary.get(id);
+        if (value == null) {
+            // Written by another instance since startup
+            value = jdbcTemplate.query(sql, mapper, id).stream().findFirst().orElse(null);
+            if (value != null) {
+                T resolved = value;
+                afterCommit(() -> dictionary.put(id, resolved));
+            }
+        }
+        return value;
+    }
+
+    private <T> int save(Map<String, T> dictionary, Collection<T> incoming, Function<T, String> id, String sql,
+            Function<T, Object[]> toRow) {
+        List<T> changed = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (T value : incoming) {
+            String key = id.apply(value);
+            if (key != null && !Objects.equals(dictionary.get(key), value)) {
+                changed.add(value);
+                rows.add(toRow.apply(value));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            afterCommit(() -> changed.forEach(value -> dictionary.put(id.apply(value), value)));
+        }
+        return changed.size();
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
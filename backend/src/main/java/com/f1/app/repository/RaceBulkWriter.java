@@ -0,0 +1,212 @@
+package com.f1.app.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.dto.RaceResultDTO;
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Season write path that bypasses per-entity JPA saves. Drivers,
+ * constructors and circuits go to their dimension tables; races and results
+ * keep only their ids. The season's stored races and results are loaded
+ * once and indexed by round and (round, driverId); only new or changed rows
+ * (e.g. post-race penalties) are then upserted on their natural keys with
+ * JDBC batches.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RaceBulkWriter {
+
+    private static final String[] RACE_COLUMNS = {"race_name", "date", "time", "circuit_id"};
+    private static final String[] RESULT_COLUMNS = {
+            "constructor_id", "position", "position_text", "points", "grid", "laps", "status",
+            "time_millis", "time_value"};
+
+    static final String SELECT_RACES = "SELECT id, round, " + String.join(", ", RACE_COLUMNS)
+            + " FROM races WHERE season = ?";
+    static final String SELECT_RESULTS = "SELECT r.round, rr.driver_id, "
+            + Stream.of(RESULT_COLUMNS).map(column -> "rr." + column).collect(Collectors.joining(", "))
+            + " FROM race_results rr JOIN races r ON r.id = rr.race_id WHERE r.season = ?";
+    static final String UPSERT_RACE = upsert("races", new String[]{"season", "round"}, RACE_COLUMNS);
+    static final String UPSERT_RESULT = upsert("race_results", new String[]{"race_id", "driver_id"}, RESULT_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DimensionRepository dimensionRepository;
+
+    /**
+     * Writes the given races of one season and their results, skipping rows
+     * identical to what is stored. Returns what was written.
+     */
+    @Transactional
+    public SeasonWrite upsertSeason(Integer season, List<Race> races) {
+        if (races.isEmpty()) {
+            return new SeasonWrite(0, 0, 0);
+        }
+        saveDimensions(races);
+
+        Map<Integer, StoredRow> storedRaces = new HashMap<>();
+        jdbcTemplate.query(SELECT_RACES, rs -> {
+            storedRaces.put(rs.getInt("round"), new StoredRow(rs.getLong("id"), read(rs, RACE_COLUMNS)));
+        }, season);
+
+        List<Object[]> raceRows = new ArrayList<>();
+        boolean newRounds = false;
+        for (Race race : races) {
+            Object[] values = raceValues(race);
+            StoredRow stored = storedRaces.get(race.getRound());
+            if (stored == null || !Arrays.equals(stored.values(), values)) {
+                raceRows.add(prepend(values, season, race.getRound()));
+                newRounds |= stored == null;
+            }
+        }
+        if (!raceRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RACE, raceRows);
+        }
+
+        Map<Integer, Long> raceIds = new HashMap<>();
+        if (newRounds) {
+            jdbcTemplate.query(SELECT_RACES, rs -> {
+                raceIds.put(rs.getInt("round"), rs.getLong("id"));
+            }, season);
+        } else {
+            storedRaces.forEach((round, stored) -> raceIds.put(round, stored.id()));
+        }
+
+        Map<ResultKey, Object[]> storedResults = new HashMap<>();
+        if (!storedRaces.isEmpty()) {
+            jdbcTemplate.query(SELECT_RESULTS, rs -> {
+                storedResults.put(new ResultKey(rs.getInt("round"), rs.getString("driver_id")),
+                        read(rs, RESULT_COLUMNS));
+            }, season);
+        }
+
+        List<Object[]> resultRows = new ArrayList<>();
+        int unchanged = 0;
+        for (Race race : races) {
+            Long raceId = raceIds.get(race.getRound());
+            if (raceId == null || race.getResults() == null) {
+                continue;
+            }
+            for (RaceResult result : race.getResults()) {
+                if (result.getDriver() == null || result.getDriver().getDriverId() == null) {
+                    log.warn("Skipping result without driver for season {} round {}", season, race.getRound());
+                    continue;
+                }
+                String driverId = result.getDriver().getDriverId();
+                Object[] values = resultValues(result);
+                if (Arrays.equals(storedResults.get(new ResultKey(race.getRound(), driverId)), values)) {
+                    unchanged++;
+                } else {
+                    resultRows.add(prepend(values, raceId, driverId));
+                }
+            }
+        }
+        if (!resultRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RESULT, resultRows);
+        }
+        return new SeasonWrite(raceRows.size(), resultRows.size(), unchanged);
+    }
+
+    private void saveDimensions(List<Race> races) {
+        Map<String, RaceDTO.CircuitDTO> circuits = new LinkedHashMap<>();
+        Map<String, RaceResultDTO.DriverDTO> drivers = new LinkedHashMap<>();
+        Map<String, RaceResultDTO.ConstructorDTO> constructors = new LinkedHashMap<>();
+        for (Race race : races) {
+            Race.Circuit circuit = race.getCircuit();
+            if (circuit != null && circuit.getCircuitId() != null) {
+                circuits.put(circuit.getCircuitId(), new RaceDTO.CircuitDTO(circuit.getCircuitId(),
+                        circuit.getCircuitName(), circuit.getLocality(), circuit.getCountry()));
+            }
+            if (race.getResults() == null) {
+                continue;
+            }
+            for (RaceResult result : race.getResults()) {
+                RaceResult.Driver driver = result.getDriver();
+                if (driver != null && driver.getDriverId() != null) {
+                    drivers.put(driver.getDriverId(), new RaceResultDTO.DriverDTO(driver.getDriverId(),
+                            driver.getCode(), driver.getGivenName(), driver.getFamilyName(), driver.getNationality()));
+                }
+                RaceResult.Constructor constructor = result.getConstructor();
+                if (constructor != null && constructor.getConstructorId() != null) {
+                    constructors.put(constructor.getConstructorId(), new RaceResultDTO.ConstructorDTO(
+                            constructor.getConstructorId(), constructor.getName(), constructor.getNationality()));
+                }
+            }
+        }
+        int written = dimensionRepository.saveCircuits(circuits.values())
+                + dimensionRepository.saveDrivers(drivers.values())
+                + dimensionRepository.saveConstructors(constructors.values());
+        log.debug("Upserted {} new or changed drivers, constructors and circuits", written);
+    }
+
+    private static Object[] raceValues(Race race) {
+        String circuitId = race.getCircuit() != null ? race.getCircuit().getCircuitId() : null;
+        return new Object[]{race.getRaceName(), race.getDate(), race.getTime(), circuitId};
+    }
+
+    private static Object[] resultValues(RaceResult result) {
+        String constructorId = result.getConstructor() != null ? result.getConstructor().getConstructorId() : null;
+        RaceResult.RaceTime time = result.getTime() != null ? result.getTime() : new RaceResult.RaceTime();
+        return new Object[]{constructorId, result.getPosition(), result.getPositionText(), result.getPoints(),
+                result.getGrid(), result.getLaps(), result.getStatus(), time.getMillis(), time.getTime()};
+    }
+
+    private static Object[] read(ResultSet rs, String[] columns) throws SQLException {
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = rs.getObject(columns[i]);
+        }
+        return values;
+    }
+
+    private static Object[] prepend(Object[] values, Object first, Object second) {
+        Object[] row = new Object[values.length + 2];
+        row[0] = first;
+        row[1] = second;
+        System.arraycopy(values, 0, row, 2, values.length);
+        return row;
+    }
+
+    private static String upsert(String table, String[] keyColumns, String[] valueColumns) {
+        String columns = Stream.concat(Stream.of(keyColumns), Stream.of(valueColumns))
+                .collect(Collectors.joining(", "));
+        String placeholders = Stream.generate(() -> "?").limit(keyColumns.length + valueColumns.length)
+                .collect(Collectors.joining(", "));
+        String updates = Stream.of(valueColumns).map(column -> column + " = VALUES(" + column + ")")
+                .collect(Collectors.joining(", "));
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ") "
+                + "ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    private record StoredRow(long id, Object[] values) {
+    }
+
+    private record ResultKey(int round, String driverId) {
+    }
+
+    /**
+     * Rows sent to the database for one season write; unchanged results were
+     * already stored as-is and skipped.
+     */
+    public record SeasonWrite(int races, int results, int unchangedResults) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.f1.app.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.dto.RaceResultDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-only season lookup that maps one flat races/race_results join
+ * straight into the RaceDTO tree, without managed entities or the
+ * entity-to-DTO copy. Driver, constructor and circuit ids are resolved
+ * through the in-memory DimensionRepository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RaceQueryRepository {
+
+    static final String SELECT_SEASON = "SELECT r.id AS race_id, r.season, r.round, r.race_name, r.date, r.time, "
+            + "r.circuit_id, rr.id AS result_id, rr.driver_id, rr.constructor_id, "
+            + "rr.position, rr.position_text, rr.points, rr.grid, rr.laps, rr.status, rr.time_millis, rr.time_value "
+            + "FROM races r LEFT JOIN race_results rr ON rr.race_id = r.id "
+            + "WHERE r.season = ? ORDER BY r.round, rr.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DimensionRepository dimensionRepository;
+
+    @Transactional(readOnly = true)
+    public List<RaceDTO> findBySeason(Integer season) {
+        return jdbcTemplate.query(SELECT_SEASON, this::extractSeason, season);
+    }
+
+    // Rows arrive ordered by round, so each race's results are contiguous
+    List<RaceDTO> extractSeason(ResultSet rs) throws SQLException {
+        Map<Long, RaceDTO> races = new LinkedHashMap<>();
+        while (rs.next()) {
+            long raceId = rs.getLong("race_id");
+            RaceDTO race = races.get(raceId);
+            if (race == null) {
+                race = mapRace(rs);
+                races.put(raceId, race);
+            }
+            rs.getLong("result_id");
+            if (!rs.wasNull()) {
+                race.getResults().add(mapResult(rs));
+            }
+        }
+        return new ArrayList<>(races.values());
+    }
+
+    private RaceDTO mapRace(ResultSet rs) throws SQLException {
+        RaceDTO race = RaceDTO.builder()
+                .season(rs.getInt("season"))
+                .round(rs.getInt("round"))
+                .raceName(rs.getString("race_name"))
+                .date(rs.getString("date"))
+                .time(rs.getString("time"))
+                .build();
+        String circuitId = rs.getString("circuit_id");
+        if (circuitId != null) {
+            RaceDTO.CircuitDTO circuit = dimensionRepository.circuit(circuitId);
+            race.setCircuit(circuit != null ? circuit : RaceDTO.CircuitDTO.builder().circuitId(circuitId).build());
+        }
+        return race;
+    }
+
+    private RaceResultDTO mapResult(ResultSet rs) throws SQLException {
+        RaceResultDTO result = RaceResultDTO.builder()
+                .position(rs.getObject("position", Integer.class))
+                .positionText(rs.getString("position_text"))
+                .points(rs.getObject("points", Float.class))
+                .grid(rs.getObject("grid", Integer.class))
+                .laps(rs.getObject("laps", Integer.class))
+                .status(rs.getString("status"))
+                .build();
+
+        String driverId = rs.getString("driver_id");
+        if (driverId != null) {
+            RaceResultDTO.DriverDTO driver = dimensionRepository.driver(driverId);
+            result.setDriver(driver != null ? driver : RaceResultDTO.DriverDTO.builder().driverId(driverId).build());
+        }
+
+        String constructorId = rs.getString("constructor_id");
+        if (constructorId != null) {
+            RaceResultDTO.ConstructorDTO constructor = dimensionRepository.constructor(constructorId);
+            result.setConstructor(constructor != null
+                    ? constructor
+                    : RaceResultDTO.ConstructorDTO.builder().constructorId(constructorId).build());
+        }
+
+        Long millis = rs.getObject("time_millis", Long.class);
+        String time = rs.getString("time_value");
+        if (millis != null || time != null) {
+            result.setTime(new RaceResultDTO.RaceTimeDTO(millis, time));
+        }
+        return result;
+    }
+}
@@ -17,4 +17,7 @@ public interface RaceRepository extends JpaRepository<Race, Long> {
 
     @Query("SELECT DISTINCT r FROM Race r LEFT JOIN FETCH r.results WHERE r.season = :season AND r.round = :round")
     Optional<Race> findBySeasonAndRound(@Param("season") Integer season, @Param("round") Integer round);
+
+    @Query("SELECT MAX(r.round) FROM Race r WHERE r.season = :season")
+    Integer findMaxRoundBySeason(@Param("season") Integer season);
 } 
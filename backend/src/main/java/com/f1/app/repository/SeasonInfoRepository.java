@@ -2,10 +2,12 @@ package com.f1.app.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.f1.app.model.SeasonInfo;
 
 @Repository
 public interface SeasonInfoRepository extends JpaRepository<SeasonInfo, Integer> {
+    @Transactional(readOnly = true)
     SeasonInfo findByYear(Integer year);
 } 
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.f1.app.repository.BackfillJournal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs per-year upstream fetches with bounded concurrency and reports
+ * progress and total duration. Calls run as
+ * {@link UpstreamPriority#BACKGROUND}, so they are paced by the shared
+ * {@link UpstreamRateLimiter} and user-facing requests keep priority on the
+ * upstream budget.
+ * <p>
+ * Each year is one unit of work: the fetch runs outside any transaction and
+ * only the store, together with its journal entry, runs in a short
+ * transaction of its own. A job restarted after a crash skips the years the
+ * journal already lists as completed.
+ */
+@Slf4j
+@Service
+public class BackfillService {
+
+    private final Executor executor;
+    private final BackfillJournal journal;
+    private final TransactionOperations transactions;
+    private final int concurrency;
+
+    @Autowired
+    public BackfillService(
+            @Value("${api.ergast.backfill.concurrency:4}") int concurrency,
+            BackfillJournal journal,
+            PlatformTransactionManager transactionManager) {
+        this(newExecutor(concurrency), concurrency, journal, new TransactionTemplate(transactionManager));
+    }
+
+    BackfillService(Executor executor, int concurrency, BackfillJournal journal,
+            TransactionOperations transactions) {
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.journal = journal;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Runs {@code task} once per year. The task returns {@code true} when the
+     * year produced data; exceptions are logged and counted as failures so one
+     * bad year never aborts the whole backfill. The task is responsible for
+     * its own transactions.
+     */
+    public BackfillReport run(String name, List<Integer> years, Predicate<Integer> task) {
+        return run(name, years, new UnitOfWork<Boolean>() {
+            @Override
+            public Boolean fetch(int year) {
+                return task.test(year) ? Boolean.TRUE : null;
+            }
+
+            @Override
+            public void store(int year, Boolean stored) {
+            }
+        });
+    }
+
+    /**
+     * Runs {@code work} once per year not yet journaled as completed for
+     * {@code name}. When every year has succeeded the journal is cleared, so
+     * the next run starts over; otherwise the next run retries only the
+     * years that did not complete.
+     */
+    public <T> BackfillReport run(String name, List<Integer> years, UnitOfWork<T> work) {
+        long start = System.nanoTime();
+        Set<Integer> done = completedUnits(name);
+        List<Integer> pending = years.stream()
+                .filter(year -> !work.journaled(year) || !done.contains(year))
+                .toList();
+        int total = years.size();
+        AtomicInteger completed = new AtomicInteger(total - pending.size());
+        AtomicInteger stored = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        log.info("Starting {} backfill for {} years, {} already completed (concurrency: {})",
+                name, total, completed.get(), concurrency);
+
+        CompletableFuture<?>[] futures = pending.stream()
+                .map(year -> CompletableFuture.runAsync(() -> {
+                    try {
+                        T data = UpstreamPriority.callAs(UpstreamPriority.BACKGROUND, () -> work.fetch(year));
+                        transactions.executeWithoutResult(status -> {
+                            if (data != null) {
+                                work.store(year, data);
+                            }
+                            if (work.journaled(year)) {
+                                journal.markCompleted(name, year);
+                            }
+                        });
+                        if (data != null) {
+                            stored.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.error("{} backfill failed for year {}: {}", name, year, e.getMessage());
+                        markFailed(name, year, e);
+                    }
+                    log.info("{} backfill progress: {}/{}", name, completed.incrementAndGet(), total);
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+        if (failed.get() == 0) {
+            journal.clearCompleted(name);
+        }
+
+        BackfillReport report = new BackfillReport(name, pending.size(), stored.get(), failed.get(),
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Finished {} backfill in {} ms: {} stored, {} skipped, {} failed",
+                name, report.elapsed().toMillis(), report.stored(), report.skipped(), report.failed());
+        return report;
+    }
+
+    private Set<Integer> completedUnits(String name) {
+        try {
+            return journal.completedUnits(name);
+        } catch (Exception e) {
+            log.warn("Could not read {} backfill journal, running every year: {}", name, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void markFailed(String name, int year, Exception cause) {
+        try {
+            journal.markFailed(name, year, cause.getMessage());
+        } catch (Exception e) {
+            log.warn("Could not journal {} backfill failure for year {}: {}", name, year, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("backfill-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+
+    /**
+     * One year of a backfill, split so that no transaction or pooled
+     * connection is held while waiting on the upstream.
+     */
+    public interface UnitOfWork<T> {
+
+        /** Upstream call; runs outside any transaction. {@code null} means no data for the year. */
+        T fetch(int year);
+
+        /** Persists the fetched data; runs in the year's own transaction. */
+        void store(int year, T data);
+
+        /**
+         * Whether a completed year is journaled and skipped by later runs.
+         * Years that must be refreshed on every run return {@code false}.
+         */
+        default boolean journaled(int year) {
+            return true;
+        }
+    }
+
+    public record BackfillReport(String name, int total, int stored, int failed, Duration elapsed) {
+        public int skipped() {
+            return total - stored - failed;
+        }
+    }
+}
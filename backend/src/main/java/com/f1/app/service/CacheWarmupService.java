@@ -0,0 +1,194 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.f1.app.dto.ChampionDTO;
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.repository.RaceQueryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the champions snapshot and every season since 2005 into the local
+ * cache tier once the application has started, so the first requests after
+ * a deploy or cold start do not pay for MySQL and Redis. Seasons come from
+ * Redis when present, otherwise from MySQL; Ergast is never called. The
+ * readiness probe stays out of service until the warm-up finishes or
+ * {@code timeout} has passed since startup.
+ */
+@Slf4j
+@Service
+public class CacheWarmupService {
+
+    static final int FIRST_SEASON = 2005;
+    private static final String RACES_CACHE = "races";
+
+    private final CacheManager cacheManager;
+    private final RaceQueryRepository raceQueryRepository;
+    private final ChampionService championService;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final Duration timeout;
+    private final long startedAt = System.nanoTime();
+    private volatile WarmupReport report;
+
+    @Autowired
+    public CacheWarmupService(
+            CacheManager cacheManager,
+            RaceQueryRepository raceQueryRepository,
+            ChampionService championService,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.warmup.concurrency:4}") int concurrency,
+            @Value("${app.cache.warmup.timeout:60s}") Duration timeout) {
+        this(newExecutor(concurrency), cacheManager, raceQueryRepository, championService, meterRegistry, timeout);
+    }
+
+    CacheWarmupService(Executor executor, CacheManager cacheManager, RaceQueryRepository raceQueryRepository,
+            ChampionService championService, MeterRegistry meterRegistry, Duration timeout) {
+        this.executor = executor;
+        this.cacheManager = cacheManager;
+        this.raceQueryRepository = raceQueryRepository;
+        this.championService = championService;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        warmUp();
+    }
+
+    CompletableFuture<WarmupReport> warmUp() {
+        long start = System.nanoTime();
+        Cache races = cacheManager.getCache(RACES_CACHE);
+        AtomicInteger fromCache = new AtomicInteger();
+        AtomicInteger fromDatabase = new AtomicInteger();
+        AtomicInteger missing = new AtomicInteger();
+
+        List<Integer> seasons = IntStream.rangeClosed(FIRST_SEASON, Year.now().getValue()).boxed().toList();
+        log.info("Warming caches for champions and {} seasons", seasons.size());
+
+        CompletableFuture<Integer> champions = CompletableFuture.supplyAsync(this::warmChampions, executor);
+        CompletableFuture<?>[] seasonLoads = seasons.stream()
+                .map(year -> CompletableFuture.runAsync(() -> {
+                    switch (warmSeason(races, year)) {
+                        case CACHE -> fromCache.incrementAndGet();
+                        case DATABASE -> fromDatabase.incrementAndGet();
+                        case MISSING -> missing.incrementAndGet();
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(seasonLoads)
+                .thenCombine(champions, (ignored, championCount) -> {
+                    WarmupReport completed = new WarmupReport(championCount, fromCache.get(), fromDatabase.get(),
+                            missing.get(), Duration.ofNanos(System.nanoTime() - start));
+                    record(completed);
+                    return completed;
+                });
+    }
+
+    /** Still running after the configured timeout; readiness no longer waits for it. */
+    public boolean isTimedOut() {
+        return report == null && System.nanoTime() - startedAt > timeout.toNanos();
+    }
+
+    public Optional<WarmupReport> report() {
+        return Optional.ofNullable(report);
+    }
+
+    private int warmChampions() {
+        try {
+            List<ChampionDTO> champions = championService.getChampions().getBody();
+            return champions != null ? champions.size() : 0;
+        } catch (Exception e) {
+            log.warn("Champion warm-up skipped: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // A cache hit promotes the Redis entry into the local tier; a load fills both
+    private Source warmSeason(Cache races, int year) {
+        try {
+            if (races != null && races.get(year) != null) {
+                return Source.CACHE;
+            }
+            List<RaceDTO> season = raceQueryRepository.findBySeason(year);
+            if (season.isEmpty()) {
+                return Source.MISSING;
+            }
+            if (races != null) {
+                races.put(year, season);
+            }
+            return Source.DATABASE;
+        } catch (Exception e) {
+            log.warn("Warm-up of season {} failed: {}", year, e.getMessage());
+            return Source.MISSING;
+        }
+    }
+
+    private void record(WarmupReport completed) {
+        report = completed;
+        Timer.builder("cache.warmup.duration")
+                .description("Time taken by the startup cache warm-up")
+                .register(meterRegistry)
+                .record(completed.elapsed());
+        entries("champions", "snapshot").increment(completed.champions());
+        entries(RACES_CACHE, "cache").increment(completed.seasonsFromCache());
+        entries(RACES_CACHE, "database").increment(completed.seasonsFromDatabase());
+        log.info("Cache warm-up finished in {} ms: {} champions, {} seasons from cache, {} from database, {} missing",
+                completed.elapsed().toMillis(), completed.champions(), completed.seasonsFromCache(),
+                completed.seasonsFromDatabase(), completed.seasonsMissing());
+    }
+
+    private Counter entries(String cache, String source) {
+        return Counter.builder("cache.warmup.entries")
+                .description("Entries loaded by the startup cache warm-up")
+                .tag("cache", cache)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-warmup-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+
+    private enum Source {
+        CACHE, DATABASE, MISSING
+    }
+
+    public record WarmupReport(int champions, int seasonsFromCache, int seasonsFromDatabase, int seasonsMissing,
+            Duration elapsed) {
+    }
+}
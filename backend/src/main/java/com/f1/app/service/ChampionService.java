@@ -1,5 +1,6 @@
 package com.f1.app.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -7,20 +8,16 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.f1.app.dto.ChampionDTO;
 import com.f1.app.exception.ServiceException;
 import com.f1.app.model.Champion;
-import com.f1.app.model.SeasonInfo;
 import com.f1.app.repository.ChampionRepository;
-import com.f1.app.repository.SeasonInfoRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,9 +29,12 @@ public class ChampionService {
 
     private final ErgastApiService ergastApiService;
     private final ChampionRepository championRepository;
-    private final SeasonInfoRepository seasonInfoRepository;
     private final RedisCacheManager redisCacheManager;
     private final CacheService cacheService;
+    private final BackfillService backfillService;
+    private final RequestCoalescer requestCoalescer;
+    private final StaleDataStore staleDataStore;
+    private final ChampionSnapshot championSnapshot;
     private static final String CACHE_NAME = "champions";
 
     @CacheEvict(value = "champions", key = "'currentYear'")
@@ -49,8 +49,9 @@ public class ChampionService {
         cacheService.evictChampionCache("allChampions");
     }
 
+    // No surrounding transaction: the backfill commits each year on its own,
+    // so the upstream calls never hold a connection
     @Async
-    @Transactional
     public void initializeChampionData() {
         try {
             evictCurrentYearCache(); // Evict current year cache before update
@@ -63,45 +64,37 @@ public class ChampionService {
                     .map(Champion::getYear)
                     .collect(Collectors.toSet());
 
-            // Create a list of years we need to fetch, from current year down to 2005
-            // Exclude current year as we'll handle it separately
-            List<Integer> yearsToFetch = IntStream.rangeClosed(END_YEAR, currentYear - 1)
+            // Always fetch current year first, then the missing past years from newest to oldest
+            List<Integer> yearsToFetch = new ArrayList<>();
+            yearsToFetch.add(currentYear);
+            IntStream.rangeClosed(END_YEAR, currentYear - 1)
                     .boxed()
                     .filter(year -> !existingYears.contains(year))
                     .sorted((a, b) -> b.compareTo(a)) // Sort in descending order
-                    .collect(Collectors.toList());
+                    .forEach(yearsToFetch::add);
 
-            log.info("Found {} past years that need to be fetched", yearsToFetch.size());
+            log.info("Found {} past years that need to be fetched", yearsToFetch.size() - 1);
 
-            // Always fetch current year first
-            try {
-                log.info("Fetching current year ({}) champion data...", currentYear);
-                ResponseEntity<Champion> response = ergastApiService.fetchWorldChampion(currentYear);
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Champion champion = response.getBody();
+            BackfillService.BackfillReport report = backfillService.run("champions", yearsToFetch, new BackfillService.UnitOfWork<Champion>() {
+                @Override
+                public Champion fetch(int year) {
+                    return fetchChampion(year);
+                }
+
+                @Override
+                public void store(int year, Champion champion) {
                     championRepository.save(champion);
-                    log.debug("Saved current year champion data");
+                    log.debug("Saved champion data for year: {}", year);
                 }
-                // Throttle requests
-                Thread.sleep(1000);
-            } catch (Exception e) {
-                log.error("Failed to fetch and save champion for current year {}: {}", currentYear, e.getMessage());
-            }
 
-            // Fetch and save missing champions for past years
-            for (Integer year : yearsToFetch) {
-                try {
-                    ResponseEntity<Champion> response = ergastApiService.fetchWorldChampion(year);
-                    if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                        Champion champion = response.getBody();
-                        championRepository.save(champion);
-                        log.debug("Saved champion data for year: {}", year);
-                    }
-                    // Throttle requests to 1 per second
-                    Thread.sleep(1000);
-                } catch (Exception e) {
-                    log.error("Failed to fetch and save champion for year {}: {}", year, e.getMessage());
+                // The current season's champion can still change, so it is refetched every run
+                @Override
+                public boolean journaled(int year) {
+                    return year != currentYear;
                 }
+            });
+            if (report.stored() > 0) {
+                championSnapshot.refresh();
             }
 
             log.info("Champion data initialization completed");
@@ -115,65 +108,46 @@ public class ChampionService {
         }
     }
 
-    @Cacheable(value = "champions", key = "'allChampions'")
+    private Champion fetchChampion(int year) {
+        ResponseEntity<Champion> response = ergastApiService.fetchWorldChampion(year);
+        return response.getStatusCode().is2xxSuccessful() ? response.getBody() : null;
+    }
+
+    // Served from the in-memory snapshot; no database or cache round trip
     public ResponseEntity<List<ChampionDTO>> getChampions() {
-        try {
-            int currentYear = java.time.Year.now().getValue();
-            SeasonInfo currentSeasonInfo = seasonInfoRepository.findByYear(currentYear);
-            
-            List<ChampionDTO> champions = championRepository.findAll().stream()
-                    .filter(champion -> {
-                        // If it's current year, check availability
-                        if (champion.getYear().equals(currentYear)) {
-                            return currentSeasonInfo != null && currentSeasonInfo.isChampionAvailableForCurrentYear();
-                        }
-                        // For past years, always include
-                        return true;
-                    })
-                    .map(ChampionDTO::fromEntity)
-                    .collect(Collectors.toList());
-            
-            if (champions.isEmpty()) {
-                throw new ServiceException(
-                    "No champions found",
-                    "NO_CHAMPIONS_FOUND",
-                    HttpStatus.NOT_FOUND.value()
-                );
-            }
-            
-            return ResponseEntity.ok(champions);
-        } catch (ServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error fetching champions", e);
+        List<ChampionDTO> champions = championSnapshot.champions();
+        if (champions.isEmpty()) {
             throw new ServiceException(
-                "Failed to fetch champions",
-                "CHAMPIONS_FETCH_ERROR",
-                HttpStatus.INTERNAL_SERVER_ERROR.value()
+                "No champions found",
+                "NO_CHAMPIONS_FOUND",
+                HttpStatus.NOT_FOUND.value()
             );
         }
+        return ResponseEntity.ok(champions);
     }
 
-    @Cacheable(value = "champions", key = "#year", unless = "#result.statusCode.is4xxClientError()")
     public ResponseEntity<ChampionDTO> getChampion(int year) {
-        try {
-            // For current year, check availability first
-            if (year == java.time.Year.now().getValue()) {
-                SeasonInfo seasonInfo = seasonInfoRepository.findByYear(year);
-                if (seasonInfo == null || !seasonInfo.isChampionAvailableForCurrentYear()) {
-                    throw new ServiceException(
-                        String.format("Champion data for year %d is not yet available", year),
-                        "CHAMPION_NOT_AVAILABLE",
-                        HttpStatus.NOT_FOUND.value()
-                    );
-                }
-            }
-
-            Optional<Champion> existingChampion = championRepository.findByYear(year);
-            if (existingChampion.isPresent()) {
-                return ResponseEntity.ok(ChampionDTO.fromEntity(existingChampion.get()));
-            }
+        if (!championSnapshot.isAvailable(year)) {
+            throw new ServiceException(
+                String.format("Champion data for year %d is not yet available", year),
+                "CHAMPION_NOT_AVAILABLE",
+                HttpStatus.NOT_FOUND.value()
+            );
+        }
+        Optional<ChampionDTO> champion = championSnapshot.champion(year);
+        if (champion.isPresent()) {
+            return ResponseEntity.ok(champion.get());
+        }
+        // Years not ingested yet come from Ergast; concurrent misses share one load
+        return requestCoalescer.execute(CACHE_NAME, year, () -> {
+            ResponseEntity<ChampionDTO> response = loadChampion(year);
+            staleDataStore.putChampion(year, response.getBody());
+            return response;
+        });
+    }
 
+    private ResponseEntity<ChampionDTO> loadChampion(int year) {
+        try {
             ResponseEntity<Champion> apiResponse = ergastApiService.fetchWorldChampion(year);
             if (apiResponse.getStatusCode() != HttpStatus.OK || apiResponse.getBody() == null) {
                 throw new ServiceException(
@@ -186,8 +160,7 @@ public class ChampionService {
             Champion champion = apiResponse.getBody();
             try {
                 championRepository.save(champion);
-                // Evict the allChampions cache since we added a new champion
-                evictAllChampionsCache();
+                championSnapshot.refresh();
             } catch (Exception e) {
                 log.warn("Failed to save champion to database", e);
                 // Continue execution as we still have the champion data
@@ -0,0 +1,109 @@
+package com.f1.app.service;
+
+import java.time.Year;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.f1.app.dto.ChampionDTO;
+import com.f1.app.model.Champion;
+import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.ChampionRepository;
+import com.f1.app.repository.SeasonInfoRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * All champions plus the current season's availability flag, held as one
+ * immutable snapshot. Reads never touch the database; ingestion calls
+ * {@link #refresh()} after changing champions or season_info and the
+ * rebuilt snapshot is swapped in atomically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChampionSnapshot {
+
+    private final ChampionRepository championRepository;
+    private final SeasonInfoRepository seasonInfoRepository;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    @PostConstruct
+    void load() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Could not preload champions, loading on first request: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Champions visible to clients: every past year, and the current year
+     * only once its champion has been decided.
+     */
+    public List<ChampionDTO> champions() {
+        return snapshot().visible();
+    }
+
+    public Optional<ChampionDTO> champion(int year) {
+        return Optional.ofNullable(snapshot().byYear().get(year));
+    }
+
+    public boolean isAvailable(int year) {
+        Snapshot snapshot = snapshot();
+        return year != snapshot.currentYear() || snapshot.currentYearAvailable();
+    }
+
+    /**
+     * Rebuilds the snapshot from the database. Inside a transaction the
+     * rebuild waits for the commit, so rolled back changes are never served.
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    private Snapshot rebuild() {
+        int currentYear = Year.now().getValue();
+        SeasonInfo seasonInfo = seasonInfoRepository.findByYear(currentYear);
+        boolean currentYearAvailable = seasonInfo != null && seasonInfo.isChampionAvailableForCurrentYear();
+
+        Map<Integer, ChampionDTO> byYear = new LinkedHashMap<>();
+        for (Champion champion : championRepository.findAll()) {
+            byYear.put(champion.getYear(), ChampionDTO.fromEntity(champion));
+        }
+        List<ChampionDTO> visible = byYear.values().stream()
+                .filter(champion -> champion.getYear() != currentYear || currentYearAvailable)
+                .toList();
+
+        Snapshot snapshot = new Snapshot(currentYear, currentYearAvailable, Map.copyOf(byYear), visible);
+        current.set(snapshot);
+        log.info("Champion snapshot rebuilt with {} champions", byYear.size());
+        return snapshot;
+    }
+
+    private record Snapshot(int currentYear, boolean currentYearAvailable, Map<Integer, ChampionDTO> byYear,
+            List<ChampionDTO> visible) {
+    }
+}
@@ -5,10 +5,11 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
@@ -25,8 +26,7 @@ import com.f1.app.exception.ServiceException;
 import com.f1.app.model.Champion;
 import com.f1.app.model.Race;
 import com.f1.app.model.RaceResult;
-import com.f1.app.repository.ChampionRepository;
-import com.f1.app.repository.RaceRepository;
+import com.f1.app.repository.RaceBulkWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,14 +37,19 @@ import lombok.extern.slf4j.Slf4j;
 public class ErgastApiService {
     private static final int MAX_RETRIES = 5;
     private static final long INITIAL_RETRY_DELAY = 1000L;
+    private static final int PAGE_SIZE = 100;
     private final RestTemplate restTemplate;
-    private final ChampionRepository championRepository;
-    private final RaceRepository raceRepository;
+    private final RaceBulkWriter raceBulkWriter;
     private final CacheService cacheService;
+    private final UpstreamFetchExecutor fetchExecutor;
+    private final ErgastResultsStreamReader resultsReader;
 
     @Value("${api.ergast.baseUrl}")
     private String baseUrl;
 
+    @Value("${api.ergast.streaming-parser:false}")
+    private boolean streamingParser;
+
     @Retryable(
             value = { HttpClientErrorException.TooManyRequests.class },
             maxAttempts = MAX_RETRIES,
@@ -72,9 +77,8 @@ public class ErgastApiService {
                             Integer.parseInt(driverStandings[0].getWins())
                     );
 
-                    Champion savedChampion = championRepository.save(champion);
-                    log.info("Successfully saved champion for year: {}", year);
-                    return ResponseEntity.ok(savedChampion);
+                    // Callers store it, in their own transaction
+                    return ResponseEntity.ok(champion);
                 }
             }
         }
@@ -88,58 +92,14 @@ public class ErgastApiService {
             backoff = @Backoff(delay = INITIAL_RETRY_DELAY, multiplier = 2, maxDelay = 15000)
     )
     public List<RaceDTO> fetchAndSaveRaces(Integer year, String baseUrl) {
-        List<Race> allRaces = new ArrayList<>();
-        int offset = 0;
-        int total = 0;
-
-        do {
-            String url = String.format("%s/%d/results.json?limit=100&offset=%d", baseUrl, year, offset);
-            log.info("Fetching races for year: {} (offset: {})", year, offset);
-
-            ResponseEntity<ErgastRaceResponse> response = restTemplate.getForEntity(url, ErgastRaceResponse.class);
-            if (response.getBody() == null || response.getBody().getMrData() == null) {
-                throw new ServiceException(
-                        "Failed to fetch races",
-                        "RACES_FETCH_ERROR",
-                        HttpStatus.INTERNAL_SERVER_ERROR.value()
-                );
-            }
+        // The first page tells us how many rows the season has; the remaining
+        // offsets are then fetched concurrently within the shared upstream budget
+        ResultsPage firstPage = fetchResultsPage(baseUrl, year, 0);
+        List<ResultsPage> pages = new ArrayList<>();
+        pages.add(firstPage);
+        pages.addAll(fetchRemainingPages(baseUrl, year, firstPage.total()));
 
-            ErgastRaceResponse.MRData mrData = response.getBody().getMrData();
-            if (mrData.getRaceTable() == null) {
-                throw new ServiceException(
-                        "Failed to fetch races",
-                        "RACES_FETCH_ERROR",
-                        HttpStatus.INTERNAL_SERVER_ERROR.value()
-                );
-            }
-
-            total = Integer.parseInt(mrData.getTotal());
-
-            if (mrData.getRaceTable().getRaces() != null) {
-                List<Race> races = mrData.getRaceTable().getRaces()
-                        .stream()
-                        .map(this::mapToRace)
-                        .filter(race -> race != null)
-                        .collect(Collectors.toList());
-
-                // Merge races with existing ones if they exist
-                for (Race newRace : races) {
-                    Optional<Race> existingRace = allRaces.stream()
-                            .filter(race -> race.getRound().equals(newRace.getRound()))
-                            .findFirst();
-
-                    if (existingRace.isPresent()) {
-                        Race race = existingRace.get();
-                        // Add all results from new race to existing race
-                        newRace.getResults().forEach(race::addResult);
-                    } else {
-                        allRaces.add(newRace);
-                    }
-                }
-            }
-            offset += 100;
-        } while (offset < total);
+        List<Race> allRaces = RaceMerger.mergePages(pages);
 
         if (allRaces.isEmpty()) {
             log.warn("No races found for year {}", year);
@@ -174,40 +134,120 @@ public class ErgastApiService {
     public CompletableFuture<Void> saveRacesInDatabaseAsync(List<Race> races, Integer year) {
         return CompletableFuture.runAsync(() -> {
             try {
-                List<Race> saved = new ArrayList<>();
-                for (Race race : races) {
-                    Optional<Race> existingRace = raceRepository.findBySeasonAndRound(year, race.getRound());
-
-                    if (existingRace.isPresent()) {
-                        Race existing = existingRace.get();
-                        // Only update if there are new results
-                        if (race.getResults() != null && !race.getResults().isEmpty()) {
-                            // Get new results that don't exist in the current race
-                            List<RaceResult> newResults = race.getResults().stream()
-                                .filter(newResult -> !existing.getResults().stream()
-                                    .anyMatch(existingResult ->
-                                        existingResult.getDriver().getDriverId().equals(newResult.getDriver().getDriverId())))
-                                .collect(Collectors.toList());
-
-                            // Only save if we actually have new results
-                            if (!newResults.isEmpty()) {
-                                // Add only new results to the existing race
-                                newResults.forEach(existing::addResult);
-                                saved.add(raceRepository.save(existing));
-                            }
-                        }
-                    } else {
-                        // This is a new race, save it
-                        saved.add(raceRepository.save(race));
-                    }
-                }
-                log.info("Processed {} races for year {}, {} were new or updated", races.size(), year, saved.size());
+                RaceBulkWriter.SeasonWrite write = raceBulkWriter.upsertSeason(year, races);
+                log.info("Processed {} races for year {}: {} races and {} results new or changed, {} results unchanged",
+                        races.size(), year, write.races(), write.results(), write.unchangedResults());
             } catch (Exception ex) {
                 log.error("Failed to save races asynchronously for year {}: {}", year, ex.getMessage(), ex);
             }
         });
     }
 
+    private List<ResultsPage> fetchRemainingPages(String baseUrl, Integer year, int total) {
+        List<CompletableFuture<ResultsPage>> futures = new ArrayList<>();
+        for (int offset = PAGE_SIZE; offset < total; offset += PAGE_SIZE) {
+            int pageOffset = offset;
+            futures.add(fetchExecutor.submit(() -> fetchResultsPage(baseUrl, year, pageOffset)));
+        }
+
+        // Join in submission order so pages are merged by offset
+        List<ResultsPage> pages = new ArrayList<>();
+        try {
+            for (CompletableFuture<ResultsPage> future : futures) {
+                pages.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return pages;
+    }
+
+    /**
+     * Fetches a single round's results and stores them. Returns empty when the
+     * round has not been run yet, which is where an incremental sync stops.
+     */
+    @Retryable(
+            value = { HttpClientErrorException.TooManyRequests.class },
+            maxAttempts = MAX_RETRIES,
+            backoff = @Backoff(delay = INITIAL_RETRY_DELAY, multiplier = 2, maxDelay = 15000)
+    )
+    public Optional<RaceDTO> fetchAndSaveRound(Integer year, Integer round) {
+        String url = String.format("%s/%d/%d/results.json?limit=%d", baseUrl, year, round, PAGE_SIZE);
+        log.info("Fetching results for year: {} round: {}", year, round);
+
+        Optional<Race> race = readResultsPage(url).races().stream()
+                .filter(candidate -> round.equals(candidate.getRound()) && !candidate.getResults().isEmpty())
+                .findFirst();
+        if (race.isEmpty()) {
+            log.info("No results yet for year {} round {}", year, round);
+            return Optional.empty();
+        }
+
+        // Written on the caller's thread so a failed write reaches the caller,
+        // which must not move its watermark past this round
+        try {
+            raceBulkWriter.upsertSeason(year, List.of(race.get()));
+        } catch (Exception e) {
+            log.error("Error saving year {} round {} to database: {}", year, round, e.getMessage());
+            throw new ServiceException(
+                    "Failed to save round to database",
+                    "ROUND_SAVE_ERROR",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    e
+            );
+        }
+        return race.map(RaceDTO::fromEntity);
+    }
+
+    private ResultsPage fetchResultsPage(String baseUrl, Integer year, int offset) {
+        String url = String.format("%s/%d/results.json?limit=%d&offset=%d", baseUrl, year, PAGE_SIZE, offset);
+        log.info("Fetching races for year: {} (offset: {})", year, offset);
+        return readResultsPage(url);
+    }
+
+    private ResultsPage readResultsPage(String url) {
+        ResultsPage page = streamingParser
+                ? restTemplate.execute(url, HttpMethod.GET, null, response -> resultsReader.read(response.getBody()))
+                : readResultsPageTree(url);
+        if (page == null) {
+            throw new ServiceException(
+                    "Failed to fetch races",
+                    "RACES_FETCH_ERROR",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+        }
+        return page;
+    }
+
+    // Binds the full ErgastRaceResponse tree and maps it afterwards; kept as the
+    // reference path for the streaming reader (api.ergast.streaming-parser=false)
+    private ResultsPage readResultsPageTree(String url) {
+        ResponseEntity<ErgastRaceResponse> response = restTemplate.getForEntity(url, ErgastRaceResponse.class);
+        if (response.getBody() == null || response.getBody().getMrData() == null) {
+            return null;
+        }
+
+        ErgastRaceResponse.MRData mrData = response.getBody().getMrData();
+        if (mrData.getRaceTable() == null) {
+            return null;
+        }
+
+        int total = Integer.parseInt(mrData.getTotal());
+        List<Race> races = new ArrayList<>();
+        if (mrData.getRaceTable().getRaces() != null) {
+            races = mrData.getRaceTable().getRaces()
+                    .stream()
+                    .map(this::mapToRace)
+                    .filter(race -> race != null)
+                    .collect(Collectors.toList());
+        }
+        return new ResultsPage(total, races);
+    }
+
     private Race mapToRace(ErgastRaceResponse.RaceData raceData) {
         if (raceData == null || raceData.getSeason() == null || raceData.getRound() == null) {
             log.warn("Invalid race data received: {}", raceData == null ? "null" : "missing season or round");
@@ -239,10 +279,11 @@ public class ErgastApiService {
                 if (resultData == null) continue;
 
                 RaceResult raceResult = RaceResult.builder()
-                        .position(resultData.getPosition())
-                        .points(resultData.getPoints())
-                        .grid(resultData.getGrid())
-                        .laps(resultData.getLaps())
+                        .position(ErgastNumbers.toInteger(resultData.getPosition()))
+                        .positionText(resultData.getPositionText())
+                        .points(ErgastNumbers.toFloat(resultData.getPoints()))
+                        .grid(ErgastNumbers.toInteger(resultData.getGrid()))
+                        .laps(ErgastNumbers.toInteger(resultData.getLaps()))
                         .status(resultData.getStatus())
                         .build();
 
@@ -268,7 +309,7 @@ public class ErgastApiService {
 
                 if (resultData.getTime() != null) {
                     RaceResult.RaceTime time = RaceResult.RaceTime.builder()
-                            .millis(resultData.getTime().getMillis())
+                            .millis(ErgastNumbers.toLong(resultData.getTime().getMillis()))
                             .time(resultData.getTime().getTime())
                             .build();
                     raceResult.setTime(time);
@@ -298,4 +339,5 @@ public class ErgastApiService {
                 .max(Comparator.comparingInt(race -> Integer.parseInt(race.getRound())))
                 .map(this::mapToRace);
     }
+
 }
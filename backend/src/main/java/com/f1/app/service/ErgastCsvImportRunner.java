@@ -0,0 +1,45 @@
+package com.f1.app.service;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline import mode. Runs before the startup sync when the app is started
+ * with {@code --api.ergast.csv-import.dir=/path/to/f1db_csv}; add
+ * {@code --api.ergast.csv-import.exit-after-import=true} to use it as a
+ * one-off CLI task.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "api.ergast.csv-import.dir")
+public class ErgastCsvImportRunner implements ApplicationRunner {
+
+    private final ErgastCsvImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${api.ergast.csv-import.dir}")
+    private final String directory;
+
+    @Value("${api.ergast.csv-import.exit-after-import:false}")
+    private final boolean exitAfterImport;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        importService.importDump(Path.of(directory));
+        if (exitAfterImport) {
+            log.info("CSV import finished, shutting down");
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.f1.app.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.dto.RaceResultDTO;
+import com.f1.app.exception.ServiceException;
+import com.f1.app.repository.DimensionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the published Ergast CSV dump (races, results, drivers,
+ * constructors, circuits, status, driver_standings) from local disk into
+ * the races / race_results / champions and dimension tables with batched
+ * JDBC inserts.
+ * Seasons and champion years already in the database are left untouched,
+ * so the import can be re-run safely.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ErgastCsvImportService {
+
+    private static final String[] CACHE_NAMES = {"races", "champions"};
+    private static final String INSERT_RACE = "INSERT INTO races "
+            + "(season, round, race_name, date, time, circuit_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESULT = "INSERT INTO race_results "
+            + "(race_id, position, position_text, points, grid, laps, status, driver_id, constructor_id, "
+            + "time_millis, time_value) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CHAMPION = "INSERT INTO champions "
+            + "(year, driver_id, code, given_name, family_name, nationality, points, wins) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DimensionRepository dimensionRepository;
+    private final ChampionSnapshot championSnapshot;
+    private final CacheManager cacheManager;
+    private final RedisCacheManager redisCacheManager;
+
+    @Value("${api.ergast.csv-import.batch-size:1000}")
+    private final int batchSize;
+
+    @Transactional
+    public ImportReport importDump(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            throw new ServiceException(
+                    "CSV dump directory not found: " + directory,
+                    "CSV_IMPORT_ERROR",
+                    HttpStatus.BAD_REQUEST.value()
+            );
+        }
+        long start = System.nanoTime();
+        log.info("Importing Ergast CSV dump from {}", directory);
+
+        Set<Integer> existingSeasons = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT DISTINCT season FROM races", Integer.class));
+        Set<Integer> existingChampionYears = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT year FROM champions", Integer.class));
+
+        Map<String, CircuitRow> circuits = new HashMap<>();
+        ErgastCsvReader.forEachRow(directory.resolve("circuits.csv"), row -> circuits.put(row.get("circuitId"),
+                new CircuitRow(row.get("circuitRef"), row.get("name"), row.get("location"), row.get("country"))));
+        Map<String, DriverRow> drivers = new HashMap<>();
+        ErgastCsvReader.forEachRow(directory.resolve("drivers.csv"), row -> drivers.put(row.get("driverId"),
+                new DriverRow(row.get("driverRef"), row.get("code"), row.get("forename"), row.get("surname"),
+                        row.get("nationality"))));
+        Map<String, ConstructorRow> constructors = new HashMap<>();
+        ErgastCsvReader.forEachRow(directory.resolve("constructors.csv"), row -> constructors.put(
+                row.get("constructorId"),
+                new ConstructorRow(row.get("constructorRef"), row.get("name"), row.get("nationality"))));
+        Map<String, String> statuses = new HashMap<>();
+        ErgastCsvReader.forEachRow(directory.resolve("status.csv"),
+                row -> statuses.put(row.get("statusId"), row.get("status")));
+
+        // Only the drivers, constructors and circuits referenced by imported rows are written, and
+        // they go in first so every race and result row below points at a stored dimension row
+        Map<String, RaceDTO.CircuitDTO> usedCircuits = new LinkedHashMap<>();
+        Map<String, RaceResultDTO.DriverDTO> usedDrivers = new LinkedHashMap<>();
+        Map<String, RaceResultDTO.ConstructorDTO> usedConstructors = new LinkedHashMap<>();
+
+        Map<String, RaceRow> races = new HashMap<>();
+        Map<Integer, RaceRow> finalRaces = new HashMap<>();
+        List<Object[]> newRaces = new ArrayList<>();
+        ErgastCsvReader.forEachRow(directory.resolve("races.csv"), row -> {
+            RaceRow race = new RaceRow(row.getInt("year"), row.getInt("round"));
+            races.put(row.get("raceId"), race);
+            finalRaces.merge(race.season(), race, (a, b) -> a.round() >= b.round() ? a : b);
+            if (existingSeasons.contains(race.season())) {
+                return;
+            }
+            CircuitRow circuit = circuits.getOrDefault(row.get("circuitId"), CircuitRow.UNKNOWN);
+            String time = row.get("time");
+            newRaces.add(new Object[] {race.season(), race.round(), row.get("name"), row.get("date"),
+                    time == null ? null : time + "Z", circuit.ref()});
+            if (circuit.ref() != null) {
+                usedCircuits.putIfAbsent(circuit.ref(), new RaceDTO.CircuitDTO(circuit.ref(), circuit.name(),
+                        circuit.location(), circuit.country()));
+            }
+        });
+        ErgastCsvReader.forEachRow(directory.resolve("results.csv"), row -> {
+            RaceRow race = races.get(row.get("raceId"));
+            if (race == null || existingSeasons.contains(race.season())) {
+                return;
+            }
+            DriverRow driver = drivers.getOrDefault(row.get("driverId"), DriverRow.UNKNOWN);
+            ConstructorRow constructor = constructors.getOrDefault(row.get("constructorId"), ConstructorRow.UNKNOWN);
+            if (driver.ref() != null) {
+                usedDrivers.putIfAbsent(driver.ref(), new RaceResultDTO.DriverDTO(driver.ref(), driver.code(),
+                        driver.forename(), driver.surname(), driver.nationality()));
+            }
+            if (constructor.ref() != null) {
+                usedConstructors.putIfAbsent(constructor.ref(), new RaceResultDTO.ConstructorDTO(constructor.ref(),
+                        constructor.name(), constructor.nationality()));
+            }
+        });
+        dimensionRepository.saveCircuits(usedCircuits.values());
+        dimensionRepository.saveDrivers(usedDrivers.values());
+        dimensionRepository.saveConstructors(usedConstructors.values());
+
+        BatchWriter raceWriter = new BatchWriter(INSERT_RACE);
+        newRaces.forEach(raceWriter::add);
+        raceWriter.flush();
+
+        Map<Long, Long> raceIds = new HashMap<>();
+        jdbcTemplate.queryForList("SELECT id, season, round FROM races").forEach(row -> raceIds.put(
+                roundKey(((Number) row.get("season")).intValue(), ((Number) row.get("round")).intValue()),
+                ((Number) row.get("id")).longValue()));
+
+        BatchWriter resultWriter = new BatchWriter(INSERT_RESULT);
+        ErgastCsvReader.forEachRow(directory.resolve("results.csv"), row -> {
+            RaceRow race = races.get(row.get("raceId"));
+            if (race == null || existingSeasons.contains(race.season())) {
+                return;
+            }
+            Long raceId = raceIds.get(roundKey(race.season(), race.round()));
+            DriverRow driver = drivers.getOrDefault(row.get("driverId"), DriverRow.UNKNOWN);
+            ConstructorRow constructor = constructors.getOrDefault(row.get("constructorId"), ConstructorRow.UNKNOWN);
+            resultWriter.add(raceId, row.getInt("positionOrder"), row.get("positionText"), row.getFloat("points"),
+                    row.getInt("grid"), row.getInt("laps"), statuses.get(row.get("statusId")),
+                    driver.ref(), constructor.ref(), row.getLong("milliseconds"), row.get("time"));
+        });
+        resultWriter.flush();
+
+        // The champion is the standings leader after the final round; the
+        // running season is left to the scheduled sync
+        int currentYear = Year.now().getValue();
+        BatchWriter championWriter = new BatchWriter(INSERT_CHAMPION);
+        ErgastCsvReader.forEachRow(directory.resolve("driver_standings.csv"), row -> {
+            RaceRow race = races.get(row.get("raceId"));
+            if (race == null || !"1".equals(row.get("position")) || !race.equals(finalRaces.get(race.season()))
+                    || race.season() >= currentYear || existingChampionYears.contains(race.season())) {
+                return;
+            }
+            DriverRow driver = drivers.getOrDefault(row.get("driverId"), DriverRow.UNKNOWN);
+            championWriter.add(race.season(), driver.ref(), driver.code(), driver.forename(), driver.surname(),
+                    driver.nationality(), row.getFloat("points"), row.getInt("wins"));
+        });
+        championWriter.flush();
+
+        clearCaches();
+        championSnapshot.refresh();
+
+        ImportReport report = new ImportReport(raceWriter.count, resultWriter.count, championWriter.count,
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Imported {} races, {} results and {} champions in {} ms",
+                report.races(), report.results(), report.champions(), report.elapsed().toMillis());
+        return report;
+    }
+
+    private void clearCaches() {
+        for (String cacheName : CACHE_NAMES) {
+            Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(Cache::clear);
+            Optional.ofNullable(redisCacheManager.getCache(cacheName)).ifPresent(Cache::clear);
+        }
+    }
+
+    private static long roundKey(int season, int round) {
+        return season * 1000L + round;
+    }
+
+    private final class BatchWriter {
+        private final String sql;
+        private List<Object[]> batch = new ArrayList<>();
+        private int count;
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... args) {
+            batch.add(args);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                count += batch.size();
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private record RaceRow(Integer season, Integer round) {
+    }
+
+    private record CircuitRow(String ref, String name, String location, String country) {
+        static final CircuitRow UNKNOWN = new CircuitRow(null, null, null, null);
+    }
+
+    private record DriverRow(String ref, String code, String forename, String surname, String nationality) {
+        static final DriverRow UNKNOWN = new DriverRow(null, null, null, null, null);
+    }
+
+    private record ConstructorRow(String ref, String name, String nationality) {
+        static final ConstructorRow UNKNOWN = new ConstructorRow(null, null, null);
+    }
+
+    public record ImportReport(int races, int results, int champions, Duration elapsed) {
+    }
+}
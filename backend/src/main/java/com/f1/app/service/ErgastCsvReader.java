@@ -0,0 +1,106 @@
+package com.f1.app.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Line-by-line reader for the Ergast CSV dump. Columns are looked up by
+ * header name and the dump's {@code \N} marker is read as {@code null}.
+ */
+final class ErgastCsvReader {
+
+    private static final String NULL_MARKER = "\\N";
+
+    private ErgastCsvReader() {
+    }
+
+    static void forEachRow(Path file, Consumer<Row> consumer) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return;
+            }
+            Map<String, Integer> header = new HashMap<>();
+            List<String> columns = parseLine(stripBom(headerLine));
+            for (int i = 0; i < columns.size(); i++) {
+                header.put(columns.get(i), i);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    consumer.accept(new Row(header, parseLine(line)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    record Row(Map<String, Integer> header, List<String> values) {
+
+        String get(String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index);
+            return value.isEmpty() || NULL_MARKER.equals(value) ? null : value;
+        }
+
+        Integer getInt(String column) {
+            String value = get(column);
+            return value == null ? null : Integer.valueOf(value);
+        }
+
+        Long getLong(String column) {
+            String value = get(column);
+            return value == null ? null : Long.valueOf(value);
+        }
+
+        Float getFloat(String column) {
+            String value = get(column);
+            return value == null ? null : Float.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.f1.app.service;
+
+/**
+ * Lenient conversion of the numeric strings Ergast publishes ("1", "12.5",
+ * "5636736"). Missing or malformed values become null rather than failing
+ * the whole page.
+ */
+final class ErgastNumbers {
+
+    private ErgastNumbers() {
+    }
+
+    static Integer toInteger(String value) {
+        try {
+            return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Long toLong(String value) {
+        try {
+            return value == null || value.isBlank() ? null : Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Float toFloat(String value) {
+        try {
+            return value == null || value.isBlank() ? null : Float.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
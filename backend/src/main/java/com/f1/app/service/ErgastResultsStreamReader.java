@@ -0,0 +1,231 @@
+package com.f1.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Token-based reader for Ergast results.json pages. Builds {@link Race} and
+ * {@link RaceResult} entities straight from the response stream and skips
+ * everything we never store (URLs, dateOfBirth, lat/long, fastest laps...),
+ * instead of binding the full {@code ErgastRaceResponse} tree first.
+ */
+@Component
+public class ErgastResultsStreamReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Returns {@code null} when the payload has no MRData or RaceTable, so the
+     * caller can report it the same way as the tree-binding path.
+     */
+    ResultsPage read(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            ResultsPage page = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("MRData".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    page = readMrData(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return page;
+        }
+    }
+
+    private ResultsPage readMrData(JsonParser parser) throws IOException {
+        int total = 0;
+        List<Race> races = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("total".equals(field)) {
+                total = Integer.parseInt(parser.getValueAsString("0"));
+            } else if ("RaceTable".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                races = readRaceTable(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return races == null ? null : new ResultsPage(total, races);
+    }
+
+    private List<Race> readRaceTable(JsonParser parser) throws IOException {
+        List<Race> races = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("Races".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Race race = readRace(parser);
+                    if (race != null) {
+                        races.add(race);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return races;
+    }
+
+    private Race readRace(JsonParser parser) throws IOException {
+        Race race = Race.builder().results(new ArrayList<>()).build();
+        String season = null;
+        String round = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "season" -> season = parser.getValueAsString();
+                case "round" -> round = parser.getValueAsString();
+                case "raceName" -> race.setRaceName(parser.getValueAsString());
+                case "date" -> race.setDate(parser.getValueAsString());
+                case "time" -> race.setTime(parser.getValueAsString());
+                case "Circuit" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        race.setCircuit(readCircuit(parser));
+                    }
+                }
+                case "Results" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            race.addResult(readResult(parser));
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (season == null || round == null) {
+            return null;
+        }
+        race.setSeason(Integer.parseInt(season));
+        race.setRound(Integer.parseInt(round));
+        return race;
+    }
+
+    private Race.Circuit readCircuit(JsonParser parser) throws IOException {
+        Race.Circuit circuit = new Race.Circuit();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "circuitId" -> circuit.setCircuitId(parser.getValueAsString());
+                case "circuitName" -> circuit.setCircuitName(parser.getValueAsString());
+                case "Location" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        readLocation(parser, circuit);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return circuit;
+    }
+
+    private void readLocation(JsonParser parser, Race.Circuit circuit) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "locality" -> circuit.setLocality(parser.getValueAsString());
+                case "country" -> circuit.setCountry(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private RaceResult readResult(JsonParser parser) throws IOException {
+        RaceResult result = new RaceResult();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "position" -> result.setPosition(ErgastNumbers.toInteger(parser.getValueAsString()));
+                case "positionText" -> result.setPositionText(parser.getValueAsString());
+                case "points" -> result.setPoints(ErgastNumbers.toFloat(parser.getValueAsString()));
+                case "grid" -> result.setGrid(ErgastNumbers.toInteger(parser.getValueAsString()));
+                case "laps" -> result.setLaps(ErgastNumbers.toInteger(parser.getValueAsString()));
+                case "status" -> result.setStatus(parser.getValueAsString());
+                case "Driver" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        result.setDriver(readDriver(parser));
+                    }
+                }
+                case "Constructor" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        result.setConstructor(readConstructor(parser));
+                    }
+                }
+                case "Time" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        result.setTime(readTime(parser));
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private RaceResult.Driver readDriver(JsonParser parser) throws IOException {
+        RaceResult.Driver driver = new RaceResult.Driver();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "driverId" -> driver.setDriverId(parser.getValueAsString());
+                case "code" -> driver.setCode(parser.getValueAsString());
+                case "givenName" -> driver.setGivenName(parser.getValueAsString());
+                case "familyName" -> driver.setFamilyName(parser.getValueAsString());
+                case "nationality" -> driver.setNationality(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return driver;
+    }
+
+    private RaceResult.Constructor readConstructor(JsonParser parser) throws IOException {
+        RaceResult.Constructor constructor = new RaceResult.Constructor();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "constructorId" -> constructor.setConstructorId(parser.getValueAsString());
+                case "name" -> constructor.setName(parser.getValueAsString());
+                case "nationality" -> constructor.setNationality(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return constructor;
+    }
+
+    private RaceResult.RaceTime readTime(JsonParser parser) throws IOException {
+        RaceResult.RaceTime time = new RaceResult.RaceTime();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "millis" -> time.setMillis(ErgastNumbers.toLong(parser.getValueAsString()));
+                case "time" -> time.setTime(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return time;
+    }
+}
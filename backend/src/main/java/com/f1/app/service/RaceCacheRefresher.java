@@ -0,0 +1,82 @@
+package com.f1.app.service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.config.RefreshAhead;
+import com.f1.app.config.TieredCacheManager;
+import com.f1.app.dto.RaceDTO;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh-ahead for the races cache: a season read after {@code fraction}
+ * of its TTL is served from the cache while it is reloaded in the
+ * background, so readers of the running season never wait for the reload.
+ * Finished seasons do not expire and are never refreshed.
+ */
+@Slf4j
+@Component
+public class RaceCacheRefresher {
+
+    private static final String CACHE_NAME = "races";
+
+    private final CacheManager cacheManager;
+    private final RaceService raceService;
+    private final double fraction;
+    private final Executor executor;
+
+    @Autowired
+    public RaceCacheRefresher(
+            CacheManager cacheManager,
+            RaceService raceService,
+            @Value("${app.cache.refresh-ahead.fraction:0.8}") double fraction,
+            @Value("${app.cache.refresh-ahead.concurrency:2}") int concurrency) {
+        this(newExecutor(concurrency), cacheManager, raceService, fraction);
+    }
+
+    RaceCacheRefresher(Executor executor, CacheManager cacheManager, RaceService raceService, double fraction) {
+        this.executor = executor;
+        this.cacheManager = cacheManager;
+        this.raceService = raceService;
+        this.fraction = fraction;
+    }
+
+    @PostConstruct
+    void register() {
+        if (!(cacheManager instanceof TieredCacheManager tieredCacheManager)) {
+            log.info("Cache manager does not support refresh-ahead, races are reloaded on expiry");
+            return;
+        }
+        tieredCacheManager.enableRefreshAhead(CACHE_NAME, new RefreshAhead(this::reload, fraction, executor));
+    }
+
+    // An empty reload keeps the cached season, as getRacesByYear never caches an empty one
+    private Object reload(Object key) {
+        List<RaceDTO> races = raceService.reloadRacesByYear((Integer) key);
+        return races.isEmpty() ? null : races;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+}
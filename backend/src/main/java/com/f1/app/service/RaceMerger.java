@@ -0,0 +1,52 @@
+package com.f1.app.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+
+/**
+ * Linear-time merge of paged results.json responses. A race split across
+ * page boundaries is joined by round, and results are keyed by
+ * (round, driverId) so a row repeated on two pages is kept once.
+ */
+final class RaceMerger {
+
+    private RaceMerger() {
+    }
+
+    static List<Race> mergePages(List<ResultsPage> pages) {
+        Map<Integer, Race> racesByRound = new LinkedHashMap<>();
+        Map<Integer, Map<String, RaceResult>> resultsByRound = new LinkedHashMap<>();
+
+        for (ResultsPage page : pages) {
+            for (Race race : page.races()) {
+                racesByRound.putIfAbsent(race.getRound(), race);
+                Map<String, RaceResult> results = resultsByRound.computeIfAbsent(race.getRound(),
+                        round -> new LinkedHashMap<>());
+                for (RaceResult result : race.getResults()) {
+                    // Later pages win, matching what the upstream served last
+                    results.put(driverKey(result, results.size()), result);
+                }
+            }
+        }
+
+        List<Race> races = new ArrayList<>(racesByRound.size());
+        racesByRound.forEach((round, race) -> {
+            race.setResults(new ArrayList<>(resultsByRound.get(round).size()));
+            resultsByRound.get(round).values().forEach(race::addResult);
+            races.add(race);
+        });
+        return races;
+    }
+
+    // Results without a driver cannot be matched; keep them under a positional key
+    private static String driverKey(RaceResult result, int index) {
+        return result.getDriver() != null && result.getDriver().getDriverId() != null
+                ? result.getDriver().getDriverId()
+                : "#" + index;
+    }
+}
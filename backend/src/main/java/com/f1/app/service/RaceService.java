@@ -1,21 +1,17 @@
 package com.f1.app.service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.stereotype.Service;
 
 import com.f1.app.dto.RaceDTO;
-import com.f1.app.model.Race;
-import com.f1.app.repository.RaceRepository;
+import com.f1.app.repository.RaceQueryRepository;
 
 @Service
 public class RaceService {
@@ -23,62 +19,73 @@ public class RaceService {
     private static final Logger log = LoggerFactory.getLogger(RaceService.class);
     private static final String CACHE_NAME = "races";
     private final String baseUrl;
-    private final RaceRepository raceRepository;
-    private final RedisCacheManager redisCacheManager;
+    private final RaceQueryRepository raceQueryRepository;
     private final ErgastApiService ergastApiService;
     private final CacheService cacheService;
+    private final CacheManager cacheManager;
+    private final RequestCoalescer requestCoalescer;
+    private final StaleDataStore staleDataStore;
 
     public RaceService(
             @Value("${api.ergast.baseUrl}") String baseUrl,
-            RaceRepository raceRepository,
-            RedisCacheManager redisCacheManager,
+            RaceQueryRepository raceQueryRepository,
             ErgastApiService ergastApiService,
-            CacheService cacheService) {
+            CacheService cacheService,
+            CacheManager cacheManager,
+            RequestCoalescer requestCoalescer,
+            StaleDataStore staleDataStore) {
         this.baseUrl = baseUrl;
-        this.raceRepository = raceRepository;
-        this.redisCacheManager = redisCacheManager;
+        this.raceQueryRepository = raceQueryRepository;
         this.ergastApiService = ergastApiService;
         this.cacheService = cacheService;
+        this.cacheManager = cacheManager;
+        this.requestCoalescer = requestCoalescer;
+        this.staleDataStore = staleDataStore;
     }
 
-    @Cacheable(value = "races", key = "#year")
+    /**
+     * Serves a season from the races cache. Concurrent misses share one load,
+     * which stays in flight until the season is cached. Empty results are not
+     * cached: a past season would otherwise stay empty until evicted.
+     */
     public List<RaceDTO> getRacesByYear(Integer year) {
-        try {
-            // Try Redis cache first
-            Optional<List<RaceDTO>> redisCacheResult = getFromRedisCache(year);
-            if (redisCacheResult.isPresent()) {
-                log.debug("Redis cache hit for year: {}", year);
-                return redisCacheResult.get();
-            } else {
-                log.debug("Redis cache not found for year: {}", year);
-            }
-        } catch (Exception e) {
-            log.error("Error accessing Redis cache: {}", e.getMessage());
-            // Continue with database lookup
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return reloadRacesByYear(year);
+        }
+        return requestCoalescer.execute(cache, year, () -> loadSeason(year), races -> !races.isEmpty());
+    }
+
+    /**
+     * Loads a season bypassing the cache, for background refreshes of an entry
+     * that is about to expire; the caller puts the result in the cache.
+     */
+    public List<RaceDTO> reloadRacesByYear(Integer year) {
+        // Concurrent refreshes for the same year share one load
+        return requestCoalescer.execute(CACHE_NAME, year, () -> loadSeason(year));
+    }
+
+    // Every caller sharing a load receives this list, so it is unmodifiable
+    private List<RaceDTO> loadSeason(Integer year) {
+        List<RaceDTO> races = List.copyOf(loadRacesByYear(year));
+        if (!races.isEmpty()) {
+            staleDataStore.putRaces(year, races);
         }
+        return races;
+    }
 
-        // Then check database
-        List<Race> cachedRaces = new ArrayList<>();
-        List<RaceDTO> raceDTOs;
+    // Cache tiers are handled by the tiered cache manager; this is the miss path
+    private List<RaceDTO> loadRacesByYear(Integer year) {
+        // Check database first, projected straight into DTOs
+        List<RaceDTO> raceDTOs = List.of();
         try {
-            cachedRaces = raceRepository.findBySeason(year);
+            raceDTOs = raceQueryRepository.findBySeason(year);
         } catch (Exception e) {
             log.error("Database error while fetching races for year {}: {}", year, e.getMessage());
             // Fail gracefully and continue to API fallback
         }
-        if (!cachedRaces.isEmpty()) {
+        if (!raceDTOs.isEmpty()) {
             log.debug("Found races for year {} in database", year);
-
-            raceDTOs = cachedRaces.stream()
-                    .map(RaceDTO::fromEntity)
-                    .collect(Collectors.toList());
-
-            try {
-                putInRedisCache(year, raceDTOs);
-            } catch (Exception e) {
-                log.error("Failed to update Redis cache: {}", e.getMessage());
-                // Continue with database results
-            }
             return raceDTOs;
         }
 
@@ -86,38 +93,6 @@ public class RaceService {
         return ergastApiService.fetchAndSaveRaces(year, baseUrl);
     }
 
-    private Optional<List<RaceDTO>> getFromRedisCache(Integer year) {
-        try {
-            return Optional.ofNullable(redisCacheManager.getCache(CACHE_NAME))
-                    .map(cache -> cache.get(year))
-                    .map(cacheValue -> {
-                        if (cacheValue != null) {
-                            @SuppressWarnings("unchecked")
-                            List<RaceDTO> races = (List<RaceDTO>) cacheValue.get();
-                            return races;
-                        }
-                        return null;
-                    });
-        } catch (Exception e) {
-            log.error("Error accessing Redis cache for year {}: {}", year, e.getMessage());
-            e.printStackTrace();
-            return Optional.empty();
-        }
-    }
-
-    private void putInRedisCache(Integer year, List<RaceDTO> races) {
-        try {
-            Optional.ofNullable(redisCacheManager.getCache(CACHE_NAME))
-                    .ifPresent(cache -> {
-                        cache.put(year, races);
-                        log.debug("Successfully cached {} races for year {}", races.size(), year);
-                    });
-        } catch (Exception e) {
-            log.error("Failed to cache races for year {}: {}", year, e.getMessage());
-            // Continue without caching
-        }
-    }
-
     @CacheEvict(value = "races", key = "#year")
     public void evictRaceCache(Integer year) {
         log.info("Evicting race cache for year: {}", year);
@@ -127,11 +102,5 @@ public class RaceService {
     @CacheEvict(value = "races", allEntries = true)
     public void evictAllRaceCache() {
         log.info("Evicting all race caches");
-        // Also evict from Redis cache explicitly
-        Optional.ofNullable(redisCacheManager.getCache(CACHE_NAME))
-                .ifPresent(cache -> {
-                    cache.clear();
-                    log.debug("Cleared all Redis caches for races");
-                });
     }
 } 
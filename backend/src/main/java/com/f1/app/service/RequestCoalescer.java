@@ -0,0 +1,110 @@
+package com.f1.app.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight loader: concurrent cache misses for the same key share one
+ * load (and its exception) instead of each hitting MySQL and Ergast.
+ * Callers that joined an in-flight load are counted in
+ * {@code cache.coalesced.requests{cache}}.
+ * <p>
+ * The cache-aware variant keeps the load in flight until its value is in
+ * the cache, so there is no gap in which a caller finds neither.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("cache.coalesced.inflight", inFlight, ConcurrentMap::size)
+                .description("Loads currently shared by coalesced callers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or loads it once for all
+     * concurrent callers. The loader stores values accepted by
+     * {@code cacheable} before the in-flight entry is released.
+     */
+    public <T> T execute(Cache cache, Object key, Supplier<T> loader, Predicate<? super T> cacheable) {
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return cast(cached.get());
+        }
+        return execute(cache.getName(), key, () -> {
+            // A load that released its entry after the lookup above has already stored its value
+            Cache.ValueWrapper stored = cache.get(key);
+            if (stored != null) {
+                return cast(stored.get());
+            }
+            T value = loader.get();
+            if (cacheable.test(value)) {
+                cache.put(key, value);
+            }
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String cacheName, Object key, Supplier<T> loader) {
+        String flightKey = cacheName + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            coalescedCounter(cacheName).increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter coalescedCounter(String cacheName) {
+        return Counter.builder("cache.coalesced.requests")
+                .tag("cache", cacheName)
+                .description("Cache misses served by another caller's in-flight load")
+                .register(meterRegistry);
+    }
+}
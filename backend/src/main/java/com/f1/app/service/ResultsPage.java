@@ -0,0 +1,12 @@
+package com.f1.app.service;
+
+import java.util.List;
+
+import com.f1.app.model.Race;
+
+/**
+ * One page of an Ergast results.json response: the season row count from
+ * MRData.total and the races found on this page.
+ */
+record ResultsPage(int total, List<Race> races) {
+}
@@ -2,15 +2,17 @@ package com.f1.app.service;
 
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.Optional;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.f1.app.model.Race;
 import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.RaceRepository;
 import com.f1.app.repository.SeasonInfoRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -24,27 +26,32 @@ public class ScheduledUpdateService {
     private final ChampionService championService;
     private final ErgastApiService ergastApiService;
     private final SeasonInfoRepository seasonInfoRepository;
+    private final RaceRepository raceRepository;
     private final RaceService raceService;
     private final CacheManager cacheManager;
-
-    @Value("${api.ergast.baseUrl}")
-    private String baseUrl;
+    private final ChampionSnapshot championSnapshot;
+    private final SeasonCachePolicy seasonCachePolicy;
 
 
     @Scheduled(cron = "0 0 0 * * 1") // Run at midnight every Monday (0 0 0 = midnight, 1 = Monday)
     public void scheduledTasks() {
+        UpstreamPriority.runAs(UpstreamPriority.BACKGROUND, this::runScheduledTasks);
+    }
+
+    private void runScheduledTasks() {
         log.info("Running weekly scheduled tasks");
         
         try {
-            // Only update/evict cache for current year as that's the only data that might change
+            // Only the current season can change; sync just the rounds finished since the last run
             int currentYear = Year.now().getValue();
 
             updateChampions();
-            ergastApiService.fetchAndSaveRaces(currentYear, baseUrl);
-            updateLastRaceInfo();
+            int newRounds = updateCurrentSeason(currentYear);
 
-            raceService.evictRaceCache(currentYear);
-            cacheManager.getCache("races").evict(currentYear);
+            if (newRounds > 0) {
+                raceService.evictRaceCache(currentYear);
+                Optional.ofNullable(cacheManager.getCache("races")).ifPresent(cache -> cache.evict(currentYear));
+            }
         } catch (Exception e) {
             log.error("Error while running weekly scheduled tasks");
         }
@@ -67,25 +74,52 @@ public class ScheduledUpdateService {
         championService.initializeChampionData();
     }
 
-    private void updateLastRaceInfo() {
+    private int updateCurrentSeason(int currentYear) {
         log.info("Updating last race information");
-        int currentYear = Year.now().getValue();
-        
-        ergastApiService.fetchLastRaceOfSeason(currentYear)
-            .ifPresent(lastRace -> {
-                LocalDate lastRaceDate = LocalDate.parse(lastRace.getDate());
-                SeasonInfo seasonInfo = SeasonInfo.builder()
-                    .year(currentYear)
-                    .lastRoundNumber(lastRace.getRound())
-                    .lastRaceDate(lastRaceDate)
-                    .isChampionAvailableForCurrentYear(LocalDate.now().isAfter(lastRaceDate))
-                    .build();
-                
-                seasonInfoRepository.save(seasonInfo);
-                
-                // Cache is already evicted at the start of scheduledTasks
-                
-                log.info("Updated season info for year: {}", currentYear);
-            });
+        Optional<Race> lastRace = ergastApiService.fetchLastRaceOfSeason(currentYear);
+        if (lastRace.isEmpty()) {
+            log.info("No schedule available for year: {}", currentYear);
+            return 0;
+        }
+
+        // Update the existing row so the ingestion watermark survives
+        SeasonInfo seasonInfo = Optional.ofNullable(seasonInfoRepository.findByYear(currentYear))
+                .orElseGet(() -> SeasonInfo.builder().year(currentYear).build());
+        LocalDate lastRaceDate = LocalDate.parse(lastRace.get().getDate());
+        seasonInfo.setLastRoundNumber(lastRace.get().getRound());
+        seasonInfo.setLastRaceDate(lastRaceDate);
+        seasonInfo.setChampionAvailableForCurrentYear(LocalDate.now().isAfter(lastRaceDate));
+
+        int newRounds = syncNewRounds(seasonInfo);
+        seasonInfoRepository.save(seasonInfo);
+        // The current season's champion may have just become available
+        championSnapshot.refresh();
+        seasonCachePolicy.update(seasonInfo);
+        log.info("Updated season info for year: {} ({} new rounds ingested)", currentYear, newRounds);
+        return newRounds;
+    }
+
+    private int syncNewRounds(SeasonInfo seasonInfo) {
+        int year = seasonInfo.getYear();
+        int lastIngested = Optional.ofNullable(seasonInfo.getLastIngestedRound())
+                .or(() -> Optional.ofNullable(raceRepository.findMaxRoundBySeason(year)))
+                .orElse(0);
+
+        int newRounds = 0;
+        for (int round = lastIngested + 1; round <= seasonInfo.getLastRoundNumber(); round++) {
+            try {
+                if (ergastApiService.fetchAndSaveRound(year, round).isEmpty()) {
+                    break; // Not run yet
+                }
+            } catch (Exception e) {
+                // Keep the watermark on the last stored round so the next run retries this one
+                log.warn("Could not ingest year {} round {}: {}", year, round, e.getMessage());
+                break;
+            }
+            newRounds++;
+            lastIngested = round;
+        }
+        seasonInfo.setLastIngestedRound(lastIngested);
+        return newRounds;
     }
 } 
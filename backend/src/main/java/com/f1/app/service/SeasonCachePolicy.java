@@ -0,0 +1,85 @@
+package com.f1.app.service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.config.CacheExpiryPolicy;
+import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.SeasonInfoRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache lifetimes for season-keyed entries. Finished seasons cannot change
+ * and are kept until an ingestion evicts them; the running season expires
+ * quickly, and sooner still over a race weekend while results are being
+ * published. The season's state comes from the current year's SeasonInfo,
+ * held in memory and replaced by {@link #update(SeasonInfo)} whenever the
+ * weekly sync saves it.
+ */
+@Slf4j
+@Component
+public class SeasonCachePolicy implements CacheExpiryPolicy {
+
+    static final Duration LIVE_SEASON_TTL = Duration.ofMinutes(15);
+    static final Duration RACE_WEEKEND_TTL = Duration.ofMinutes(2);
+    // Friday practice to Monday, when late classification changes land
+    private static final Set<DayOfWeek> RACE_WEEKEND_DAYS =
+            EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY);
+
+    private final SeasonInfoRepository seasonInfoRepository;
+    private final Clock clock;
+    private final AtomicReference<SeasonInfo> currentSeason = new AtomicReference<>();
+
+    @Autowired
+    public SeasonCachePolicy(SeasonInfoRepository seasonInfoRepository) {
+        this(seasonInfoRepository, Clock.systemDefaultZone());
+    }
+
+    SeasonCachePolicy(SeasonInfoRepository seasonInfoRepository, Clock clock) {
+        this.seasonInfoRepository = seasonInfoRepository;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void load() {
+        try {
+            currentSeason.set(seasonInfoRepository.findByYear(LocalDate.now(clock).getYear()));
+        } catch (Exception e) {
+            log.warn("Could not load current season info, assuming a race every weekend: {}", e.getMessage());
+        }
+    }
+
+    public void update(SeasonInfo seasonInfo) {
+        currentSeason.set(seasonInfo);
+    }
+
+    @Override
+    public Duration ttl(Object key) {
+        LocalDate today = LocalDate.now(clock);
+        if (key instanceof Integer year && year < today.getYear()) {
+            return null;
+        }
+        return isRaceWeekend(today) ? RACE_WEEKEND_TTL : LIVE_SEASON_TTL;
+    }
+
+    private boolean isRaceWeekend(LocalDate today) {
+        SeasonInfo season = currentSeason.get();
+        if (season == null || season.getYear() == null || season.getYear() != today.getYear()) {
+            // Unknown state: err on the side of fresh results
+            return RACE_WEEKEND_DAYS.contains(today.getDayOfWeek());
+        }
+        LocalDate lastRace = season.getLastRaceDate();
+        boolean seasonRunning = lastRace == null || !today.isAfter(lastRace.plusDays(1));
+        return seasonRunning && RACE_WEEKEND_DAYS.contains(today.getDayOfWeek());
+    }
+}
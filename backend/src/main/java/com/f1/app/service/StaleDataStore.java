@@ -0,0 +1,68 @@
+package com.f1.app.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.dto.ChampionDTO;
+import com.f1.app.dto.RaceDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Last known good responses, kept in Redis without a TTL. Only read when
+ * Ergast is unavailable, so expired cache entries can still be served
+ * (marked stale) instead of failing the request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleDataStore {
+
+    static final String RACES_STALE = "races-stale";
+    static final String CHAMPIONS_STALE = "champions-stale";
+
+    private final RedisCacheManager redisCacheManager;
+
+    public void putRaces(Integer year, List<RaceDTO> races) {
+        put(RACES_STALE, year, races);
+    }
+
+    public Optional<List<RaceDTO>> getRaces(Integer year) {
+        @SuppressWarnings("unchecked")
+        Optional<List<RaceDTO>> races = get(RACES_STALE, year).map(value -> (List<RaceDTO>) value);
+        return races;
+    }
+
+    public void putChampion(Integer year, ChampionDTO champion) {
+        put(CHAMPIONS_STALE, year, champion);
+    }
+
+    public Optional<ChampionDTO> getChampion(Integer year) {
+        return get(CHAMPIONS_STALE, year).map(ChampionDTO.class::cast);
+    }
+
+    private void put(String cacheName, Integer year, Object value) {
+        try {
+            Optional.ofNullable(redisCacheManager.getCache(cacheName))
+                    .ifPresent(cache -> cache.put(year, value));
+        } catch (Exception e) {
+            log.warn("Failed to store last known good {} for year {}: {}", cacheName, year, e.getMessage());
+        }
+    }
+
+    private Optional<Object> get(String cacheName, Integer year) {
+        try {
+            return Optional.ofNullable(redisCacheManager.getCache(cacheName))
+                    .map(cache -> cache.get(year))
+                    .map(Cache.ValueWrapper::get);
+        } catch (Exception e) {
+            log.warn("Failed to read last known good {} for year {}: {}", cacheName, year, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
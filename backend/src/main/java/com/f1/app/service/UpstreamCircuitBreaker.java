@@ -0,0 +1,98 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.exception.UpstreamUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consecutive-failure circuit breaker for Ergast. After {@code failureThreshold}
+ * failed calls (I/O errors, timeouts, 5xx) calls are rejected immediately for
+ * {@code openDuration}; then a single half-open probe decides whether to
+ * close again or stay open.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public UpstreamCircuitBreaker(
+            @Value("${api.ergast.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${api.ergast.circuit-breaker.open-duration:30s}") Duration openDuration,
+            MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.rejected = Counter.builder("ergast.upstream.circuit.rejected")
+                .description("Ergast calls rejected while the circuit was open")
+                .register(meterRegistry);
+        Gauge.builder("ergast.upstream.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lets the call through or throws {@link UpstreamUnavailableException}.
+     * Every permitted call must end with onSuccess, onFailure or onIgnored.
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            log.info("Ergast circuit half-open, probing upstream");
+            state = State.HALF_OPEN;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight)) {
+            rejected.increment();
+            throw new UpstreamUnavailableException();
+        }
+        if (state == State.HALF_OPEN) {
+            probeInFlight = true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Ergast circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            log.warn("Ergast circuit opened after {} consecutive failures", consecutiveFailures);
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+        probeInFlight = false;
+    }
+
+    /**
+     * The call ended without telling us anything about upstream health
+     * (e.g. rejected by the rate limiter or answered with 429).
+     */
+    public synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,52 @@
+package com.f1.app.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded pool for concurrent Ergast page fetches. Tasks inherit the
+ * submitting thread's {@link UpstreamPriority}, so the shared rate limiter
+ * still sees a user-facing miss as interactive.
+ */
+@Component
+public class UpstreamFetchExecutor {
+
+    private final Executor executor;
+
+    @Autowired
+    public UpstreamFetchExecutor(@Value("${api.ergast.page-fetch.concurrency:4}") int concurrency) {
+        this(newExecutor(concurrency));
+    }
+
+    UpstreamFetchExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        UpstreamPriority priority = UpstreamPriority.current();
+        return CompletableFuture.supplyAsync(() -> UpstreamPriority.callAs(priority, task), executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ergast-fetch-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(concurrency, threadFactory);
+    }
+}
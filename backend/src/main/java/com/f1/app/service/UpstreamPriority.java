@@ -0,0 +1,37 @@
+package com.f1.app.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority of the upstream (Ergast) calls made by the current thread.
+ * User-facing cache misses run as {@link #INTERACTIVE}, which is the default;
+ * scheduled syncs and backfills mark themselves {@link #BACKGROUND} so they
+ * yield the shared request budget to users.
+ */
+public enum UpstreamPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<UpstreamPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static UpstreamPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callAs(UpstreamPriority priority, Supplier<T> action) {
+        UpstreamPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return action.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static void runAs(UpstreamPriority priority, Runnable action) {
+        callAs(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,174 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.f1.app.exception.ServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide token bucket shared by every Ergast call. The refill rate is
+ * adaptive: it is halved whenever the upstream answers 429 (and paused for the
+ * Retry-After period), then grows back step by step on successful calls.
+ * Background callers wait while interactive callers are queued.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    private static final long YIELD_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final double maxRate;
+    private final double minRate;
+    private final double increaseStep;
+    private final double burst;
+    private final Duration interactiveMaxWait;
+    private final Duration backgroundMaxWait;
+
+    private final Map<UpstreamPriority, Timer> queueWaitTimers = new EnumMap<>(UpstreamPriority.class);
+    private final Map<UpstreamPriority, Counter> rejectedCounters = new EnumMap<>(UpstreamPriority.class);
+    private final Counter throttledCounter;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+    private int interactiveWaiting;
+
+    public UpstreamRateLimiter(
+            @Value("${api.ergast.rate-limit.requests-per-second:4}") double maxRate,
+            @Value("${api.ergast.rate-limit.min-requests-per-second:0.5}") double minRate,
+            @Value("${api.ergast.rate-limit.increase-step:0.2}") double increaseStep,
+            @Value("${api.ergast.rate-limit.burst:4}") double burst,
+            @Value("${api.ergast.rate-limit.interactive-max-wait:10s}") Duration interactiveMaxWait,
+            @Value("${api.ergast.rate-limit.background-max-wait:5m}") Duration backgroundMaxWait,
+            MeterRegistry meterRegistry) {
+        this.maxRate = maxRate;
+        this.minRate = Math.min(minRate, maxRate);
+        this.increaseStep = increaseStep;
+        this.burst = Math.max(1, burst);
+        this.interactiveMaxWait = interactiveMaxWait;
+        this.backgroundMaxWait = backgroundMaxWait;
+        this.rate = maxRate;
+        this.tokens = this.burst;
+        this.lastRefill = System.nanoTime();
+        this.blockedUntil = lastRefill;
+
+        for (UpstreamPriority priority : UpstreamPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            queueWaitTimers.put(priority, Timer.builder("ergast.upstream.queue.wait")
+                    .description("Time spent waiting for the shared Ergast request budget")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            rejectedCounters.put(priority, Counter.builder("ergast.upstream.rejected")
+                    .description("Ergast calls rejected because the request budget was exhausted")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+        this.throttledCounter = Counter.builder("ergast.upstream.throttled")
+                .description("429 responses received from the Ergast API")
+                .register(meterRegistry);
+        Gauge.builder("ergast.upstream.rate", this, UpstreamRateLimiter::currentRate)
+                .description("Current Ergast request budget in requests per second")
+                .register(meterRegistry);
+    }
+
+    public void acquire() {
+        acquire(UpstreamPriority.current());
+    }
+
+    public void acquire(UpstreamPriority priority) {
+        long start = System.nanoTime();
+        long deadline = start + maxWait(priority).toNanos();
+        boolean interactive = priority == UpstreamPriority.INTERACTIVE;
+
+        synchronized (this) {
+            if (interactive) {
+                interactiveWaiting++;
+            }
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    boolean yieldToInteractive = !interactive && interactiveWaiting > 0;
+                    if (!yieldToInteractive && now >= blockedUntil && tokens >= 1) {
+                        tokens -= 1;
+                        break;
+                    }
+                    long waitNanos = yieldToInteractive ? YIELD_NANOS : nanosUntilNextToken(now);
+                    if (now + waitNanos > deadline) {
+                        throw reject(priority);
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, waitNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(priority);
+            } finally {
+                if (interactive) {
+                    interactiveWaiting--;
+                    notifyAll();
+                }
+            }
+        }
+        queueWaitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized void onSuccess() {
+        if (rate < maxRate && System.nanoTime() >= blockedUntil) {
+            rate = Math.min(maxRate, rate + increaseStep);
+        }
+    }
+
+    public synchronized void onThrottled(Duration retryAfter) {
+        long now = System.nanoTime();
+        throttledCounter.increment();
+        rate = Math.max(minRate, rate / 2);
+        tokens = 0;
+        blockedUntil = Math.max(blockedUntil, now + retryAfter.toNanos());
+        log.warn("Ergast API throttled the application, pausing for {} ms and lowering rate to {} req/s",
+                retryAfter.toMillis(), rate);
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill && now >= blockedUntil) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefill = now;
+    }
+
+    private long nanosUntilNextToken(long now) {
+        long untilUnblocked = blockedUntil - now;
+        long untilToken = (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / rate);
+        return Math.max(MIN_WAIT_NANOS, Math.max(untilUnblocked, untilToken));
+    }
+
+    private Duration maxWait(UpstreamPriority priority) {
+        return priority == UpstreamPriority.INTERACTIVE ? interactiveMaxWait : backgroundMaxWait;
+    }
+
+    private ServiceException reject(UpstreamPriority priority) {
+        rejectedCounters.get(priority).increment();
+        return new ServiceException(
+                "Ergast API request budget exhausted",
+                "UPSTREAM_RATE_LIMITED",
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+    }
+}
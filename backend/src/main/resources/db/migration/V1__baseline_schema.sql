@@ -0,0 +1,58 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Databases created that way are baselined at this version and skip it.
+
+CREATE TABLE IF NOT EXISTS races (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    season INT,
+    round INT,
+    race_name VARCHAR(255),
+    date VARCHAR(255),
+    time VARCHAR(255),
+    circuit_id VARCHAR(255),
+    circuit_name VARCHAR(255),
+    locality VARCHAR(255),
+    country VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS race_results (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    race_id BIGINT,
+    position VARCHAR(255),
+    points VARCHAR(255),
+    grid VARCHAR(255),
+    laps VARCHAR(255),
+    status VARCHAR(255),
+    driver_id VARCHAR(255),
+    code VARCHAR(255),
+    given_name VARCHAR(255),
+    family_name VARCHAR(255),
+    nationality VARCHAR(255),
+    constructor_id VARCHAR(255),
+    constructor_name VARCHAR(255),
+    constructor_nationality VARCHAR(255),
+    time_millis VARCHAR(255),
+    time_value VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_race_results_race FOREIGN KEY (race_id) REFERENCES races (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS champions (
+    year INT NOT NULL,
+    driver_id VARCHAR(255),
+    code VARCHAR(255),
+    given_name VARCHAR(255),
+    family_name VARCHAR(255),
+    nationality VARCHAR(255),
+    points FLOAT,
+    wins INT,
+    PRIMARY KEY (year)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS season_info (
+    year INT NOT NULL,
+    last_round_number INT,
+    last_race_date DATE,
+    is_champion_available_for_current_year BIT NOT NULL,
+    PRIMARY KEY (year)
+) ENGINE = InnoDB;
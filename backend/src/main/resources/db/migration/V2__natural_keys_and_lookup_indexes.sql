@@ -0,0 +1,38 @@
+-- Natural keys for races and results, plus indexes for the driver and
+-- constructor lookups. uk_races_season_round also serves season-only
+-- lookups through its leftmost column.
+
+-- Drop duplicate rounds (keeping the oldest row) and their results
+DELETE rr FROM race_results rr
+    JOIN races r ON r.id = rr.race_id
+    JOIN races keep ON keep.season = r.season AND keep.round = r.round AND keep.id < r.id;
+
+DELETE r FROM races r
+    JOIN races keep ON keep.season = r.season AND keep.round = r.round AND keep.id < r.id;
+
+-- Drop duplicate driver rows within a race (keeping the newest row)
+DELETE rr FROM race_results rr
+    JOIN race_results newer ON newer.race_id = rr.race_id AND newer.driver_id = rr.driver_id AND newer.id > rr.id;
+
+-- Hibernate may already have created the unique keys under ddl-auto: update
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE races ADD CONSTRAINT uk_races_season_round UNIQUE (season, round)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'races' AND index_name = 'uk_races_season_round');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE race_results ADD CONSTRAINT uk_race_results_race_driver UNIQUE (race_id, driver_id)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'race_results' AND index_name = 'uk_race_results_race_driver');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE INDEX idx_race_results_driver ON race_results (driver_id);
+CREATE INDEX idx_race_results_constructor ON race_results (constructor_id);
+CREATE INDEX idx_champions_driver ON champions (driver_id);
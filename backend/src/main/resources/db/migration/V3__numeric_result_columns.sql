@@ -0,0 +1,20 @@
+-- Store result numbers as numbers; the published classification code
+-- (R, D, W, ...) moves to position_text.
+
+ALTER TABLE race_results ADD COLUMN position_text VARCHAR(8) AFTER position;
+
+UPDATE race_results SET position_text = position;
+
+-- Anything non-numeric would abort the type change under strict mode
+UPDATE race_results SET position = NULL WHERE position NOT REGEXP '^[0-9]+$';
+UPDATE race_results SET grid = NULL WHERE grid NOT REGEXP '^[0-9]+$';
+UPDATE race_results SET laps = NULL WHERE laps NOT REGEXP '^[0-9]+$';
+UPDATE race_results SET points = NULL WHERE points NOT REGEXP '^[0-9]+(\\.[0-9]+)?$';
+UPDATE race_results SET time_millis = NULL WHERE time_millis NOT REGEXP '^[0-9]+$';
+
+ALTER TABLE race_results
+    MODIFY position INT,
+    MODIFY points FLOAT,
+    MODIFY grid INT,
+    MODIFY laps INT,
+    MODIFY time_millis BIGINT;
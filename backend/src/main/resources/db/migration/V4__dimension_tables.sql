@@ -0,0 +1,57 @@
+-- Drivers, constructors and circuits are stored once and referenced by id
+-- from races and race_results instead of being repeated on every row.
+
+CREATE TABLE drivers (
+    driver_id VARCHAR(255) NOT NULL,
+    code VARCHAR(8),
+    given_name VARCHAR(255),
+    family_name VARCHAR(255),
+    nationality VARCHAR(255),
+    PRIMARY KEY (driver_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE constructors (
+    constructor_id VARCHAR(255) NOT NULL,
+    name VARCHAR(255),
+    nationality VARCHAR(255),
+    PRIMARY KEY (constructor_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE circuits (
+    circuit_id VARCHAR(255) NOT NULL,
+    circuit_name VARCHAR(255),
+    locality VARCHAR(255),
+    country VARCHAR(255),
+    PRIMARY KEY (circuit_id)
+) ENGINE = InnoDB;
+
+INSERT INTO drivers (driver_id, code, given_name, family_name, nationality)
+SELECT driver_id, MAX(code), MAX(given_name), MAX(family_name), MAX(nationality)
+FROM race_results
+WHERE driver_id IS NOT NULL
+GROUP BY driver_id;
+
+INSERT INTO constructors (constructor_id, name, nationality)
+SELECT constructor_id, MAX(constructor_name), MAX(constructor_nationality)
+FROM race_results
+WHERE constructor_id IS NOT NULL
+GROUP BY constructor_id;
+
+INSERT INTO circuits (circuit_id, circuit_name, locality, country)
+SELECT circuit_id, MAX(circuit_name), MAX(locality), MAX(country)
+FROM races
+WHERE circuit_id IS NOT NULL
+GROUP BY circuit_id;
+
+ALTER TABLE race_results
+    DROP COLUMN code,
+    DROP COLUMN given_name,
+    DROP COLUMN family_name,
+    DROP COLUMN nationality,
+    DROP COLUMN constructor_name,
+    DROP COLUMN constructor_nationality;
+
+ALTER TABLE races
+    DROP COLUMN circuit_name,
+    DROP COLUMN locality,
+    DROP COLUMN country;
@@ -0,0 +1,13 @@
+-- Progress of long-running backfills, one row per unit of work (a season).
+-- COMPLETED rows let a restarted job skip finished units; they are removed
+-- once the job finishes. FAILED rows are kept for inspection.
+
+CREATE TABLE backfill_journal (
+    job VARCHAR(64) NOT NULL,
+    unit INT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(512),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (job, unit)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- Last round the weekly sync has stored for the season. Added by the
+-- incremental sync after the Hibernate-managed baseline, so databases
+-- baselined at V1 do not have it yet.
+
+-- Hibernate may already have created the column under ddl-auto: update
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE season_info ADD COLUMN last_ingested_round INT',
+        'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'season_info' AND column_name = 'last_ingested_round');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,106 @@
+package com.f1.app.config;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CacheInvalidationBusTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final CacheInvalidationBus.Listener listener = mock(CacheInvalidationBus.Listener.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate, objectMapper);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        bus.setListener(listener);
+    }
+
+    @Test
+    void publish_SendsVersionedMessage() throws Exception {
+        when(values.increment(CacheInvalidationBus.VERSION_KEY)).thenReturn(7L);
+
+        bus.publish("races", 2023);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), payload.capture());
+        CacheInvalidationBus.Invalidation sent =
+                objectMapper.readValue(payload.getValue(), CacheInvalidationBus.Invalidation.class);
+        assertEquals(7L, sent.version());
+        assertEquals("races", sent.cache());
+        assertEquals(2023, sent.key());
+    }
+
+    @Test
+    void onMessage_OwnMessage_IsNotAppliedAgain() throws Exception {
+        when(values.increment(CacheInvalidationBus.VERSION_KEY)).thenReturn(1L);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        bus.publish("races", 2023);
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), payload.capture());
+
+        bus.onMessage(new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(listener, never()).evictLocal(any(), any());
+        verify(listener, never()).clearLocal();
+    }
+
+    @Test
+    void onMessage_FromOtherNode_EvictsLocalKey() throws Exception {
+        bus.onMessage(message(1, "other", "races", 2023), null);
+
+        verify(listener).evictLocal("races", 2023);
+    }
+
+    @Test
+    void onMessage_AfterMissedVersions_ClearsLocalCaches() throws Exception {
+        bus.onMessage(message(1, "other", "races", 2022), null);
+        bus.onMessage(message(4, "other", "races", 2023), null);
+
+        verify(listener).clearLocal();
+        verify(listener, never()).evictLocal("races", 2023);
+    }
+
+    @Test
+    void resync_WhenVersionMovedWhileDisconnected_ClearsLocalCaches() throws Exception {
+        bus.onMessage(message(3, "other", "races", 2023), null);
+        when(values.get(CacheInvalidationBus.VERSION_KEY)).thenReturn("5");
+
+        bus.resync();
+
+        verify(listener).clearLocal();
+    }
+
+    @Test
+    void resync_WhenUpToDate_KeepsLocalCaches() throws Exception {
+        bus.onMessage(message(3, "other", "races", 2023), null);
+        when(values.get(CacheInvalidationBus.VERSION_KEY)).thenReturn("3");
+
+        bus.resync();
+
+        verify(listener, never()).clearLocal();
+    }
+
+    private DefaultMessage message(long version, String node, String cache, Object key) throws Exception {
+        byte[] body = objectMapper.writeValueAsString(new CacheInvalidationBus.Invalidation(version, node, cache, key))
+                .getBytes(StandardCharsets.UTF_8);
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8), body);
+    }
+}
@@ -0,0 +1,94 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+class DeadlineHttpRequestFactoryTest {
+
+    private static final URI URL = URI.create("https://api.jolpi.ca/ergast/f1/2023/results.json");
+
+    private final CloseableHttpClient httpClient = HttpClients.createDefault();
+    private DeadlineHttpRequestFactory requestFactory;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        requestFactory.destroy();
+    }
+
+    @Test
+    void createHttpUriRequest_WhenDeadlinePasses_CancelsRequest() throws InterruptedException {
+        requestFactory = new DeadlineHttpRequestFactory(httpClient, Duration.ofMillis(50));
+
+        HttpUriRequestBase request = (HttpUriRequestBase) requestFactory.createHttpUriRequest(HttpMethod.GET, URL);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!request.isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(request.isCancelled());
+    }
+
+    @Test
+    void createHttpUriRequest_BeforeDeadline_LeavesRequestRunning() throws InterruptedException {
+        requestFactory = new DeadlineHttpRequestFactory(httpClient, Duration.ofMinutes(1));
+
+        HttpUriRequestBase request = (HttpUriRequestBase) requestFactory.createHttpUriRequest(HttpMethod.GET, URL);
+        Thread.sleep(100);
+
+        assertFalse(request.isCancelled());
+    }
+
+    @Test
+    void createRequest_WhenResponseClosedBeforeDeadline_CancelsDeadline() throws Exception {
+        HttpClient mockClient = mock(HttpClient.class);
+        when(mockClient.executeOpen(any(), any(), any())).thenReturn(new BasicClassicHttpResponse(200));
+        requestFactory = new DeadlineHttpRequestFactory(mockClient, Duration.ofMillis(500));
+
+        ClientHttpRequest request = requestFactory.createRequest(URL, HttpMethod.GET);
+        try (ClientHttpResponse response = request.execute()) {
+            assertTrue(response.getStatusCode().is2xxSuccessful());
+        }
+        Thread.sleep(700);
+
+        assertFalse(sentRequest(mockClient).isCancelled());
+    }
+
+    @Test
+    void createRequest_WhenCallFails_CancelsDeadline() throws Exception {
+        HttpClient mockClient = mock(HttpClient.class);
+        when(mockClient.executeOpen(any(), any(), any())).thenThrow(new IOException("Connection reset"));
+        requestFactory = new DeadlineHttpRequestFactory(mockClient, Duration.ofMillis(500));
+
+        ClientHttpRequest request = requestFactory.createRequest(URL, HttpMethod.GET);
+        assertThrows(IOException.class, request::execute);
+        Thread.sleep(700);
+
+        assertFalse(sentRequest(mockClient).isCancelled());
+    }
+
+    private static HttpUriRequestBase sentRequest(HttpClient mockClient) throws IOException {
+        ArgumentCaptor<HttpUriRequestBase> sent = ArgumentCaptor.forClass(HttpUriRequestBase.class);
+        verify(mockClient).executeOpen(any(), sent.capture(), any());
+        return sent.getValue();
+    }
+}
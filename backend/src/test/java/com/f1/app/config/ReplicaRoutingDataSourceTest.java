@@ -0,0 +1,89 @@
+package com.f1.app.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), meterRegistry);
+    private final ReplicaRoutingDataSource routingDataSource =
+            new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        lagMonitor.update(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransaction_UsesReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_InReadWriteTransaction_UsesPrimary() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenReplicaLagsBehind_UsesPrimary() throws SQLException {
+        lagMonitor.update(30L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenReplicaUnreachable_FallsBackToPrimaryAndTakesReplicaOutOfRotation() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertFalse(lagMonitor.isAvailable());
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallback").counter().count());
+    }
+
+    @Test
+    void dataSource_ChoosesRouteWhenConnectionIsFirstUsed() throws SQLException {
+        // The proxy is opened before the transaction flags are known, as in a @Transactional(readOnly = true) call
+        Connection connection = new DataSourceRoutingConfig().dataSource(routingDataSource).getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        connection.prepareStatement("SELECT 1");
+
+        verify(replicaConnection).prepareStatement("SELECT 1");
+        verify(primaryConnection, never()).prepareStatement("SELECT 1");
+    }
+}
@@ -0,0 +1,153 @@
+package com.f1.app.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TieredCacheTest {
+
+    private final ConcurrentMapCache l1 = new ConcurrentMapCache("races");
+    private final ConcurrentMapCache l2 = new ConcurrentMapCache("races");
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TieredCache cache = new TieredCache("races", l1, l2, invalidationBus, meterRegistry);
+
+    @Test
+    void get_WhenOnlyInL2_PromotesIntoL1() {
+        l2.put(2023, "season");
+
+        assertEquals("season", cache.get(2023).get());
+        assertEquals("season", l1.get(2023).get());
+        assertEquals(1.0, count("l1", "miss"));
+        assertEquals(1.0, count("l2", "hit"));
+
+        cache.get(2023);
+        assertEquals(1.0, count("l1", "hit"));
+    }
+
+    @Test
+    void get_WithLoader_FillsBothTiersOnMiss() {
+        assertEquals("loaded", cache.get(2023, () -> "loaded"));
+
+        assertEquals("loaded", l1.get(2023).get());
+        assertEquals("loaded", l2.get(2023).get());
+        assertEquals(1.0, count("l2", "miss"));
+    }
+
+    @Test
+    void evict_RemovesFromBothTiersAndBroadcasts() {
+        cache.put(2023, "season");
+
+        cache.evict(2023);
+
+        assertNull(l1.get(2023));
+        assertNull(l2.get(2023));
+        verify(invalidationBus).publish("races", 2023);
+    }
+
+    @Test
+    void evictLocal_KeepsSharedTier() {
+        cache.put(2023, "season");
+
+        cache.evictLocal(2023);
+
+        assertNull(l1.get(2023));
+        assertEquals("season", l2.get(2023).get());
+        verify(invalidationBus, never()).publish(any(), any());
+    }
+
+    @Test
+    void get_WhenRedisUnavailable_TreatsL2AsMiss() {
+        Cache failing = mock(Cache.class);
+        when(failing.get(any())).thenThrow(new RedisConnectionFailureException("down"));
+        TieredCache tiered = new TieredCache("races", l1, failing, invalidationBus, meterRegistry);
+
+        assertEquals("loaded", tiered.get(2023, () -> "loaded"));
+        assertEquals("loaded", l1.get(2023).get());
+    }
+
+    @Test
+    void get_WhenRefreshDue_ServesCachedValueAndReloadsOnceInBackground() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TieredCache tiered = refreshingCache(key -> Duration.ZERO);
+        tiered.enableRefreshAhead(new RefreshAhead(key -> "reloaded", 0.8, scheduled::add));
+        tiered.put(2024, "season");
+
+        assertEquals("season", tiered.get(2024).get());
+        assertEquals("season", tiered.get(2024).get());
+        assertEquals(1, scheduled.size());
+
+        scheduled.get(0).run();
+
+        assertEquals("reloaded", l1.get(2024).get());
+        assertEquals("reloaded", l2.get(2024).get());
+        assertEquals(1.0, meterRegistry.get("cache.refresh").tags("result", "success").counter().count());
+    }
+
+    @Test
+    void get_WhenEntryDoesNotExpire_NeverRefreshes() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TieredCache tiered = refreshingCache(key -> null);
+        tiered.enableRefreshAhead(new RefreshAhead(key -> "reloaded", 0.8, scheduled::add));
+        tiered.put(2023, "season");
+
+        assertEquals("season", tiered.get(2023).get());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    void get_WhenRefreshFails_KeepsCachedValue() {
+        TieredCache tiered = refreshingCache(key -> Duration.ZERO);
+        tiered.enableRefreshAhead(new RefreshAhead(key -> {
+            throw new IllegalStateException("upstream down");
+        }, 0.8, Runnable::run));
+        tiered.put(2024, "season");
+
+        assertEquals("season", tiered.get(2024).get());
+
+        assertEquals("season", l1.get(2024).get());
+        assertEquals(1.0, meterRegistry.get("cache.refresh").tags("result", "failure").counter().count());
+    }
+
+    @Test
+    void get_WhenEvictedWhileRefreshRuns_DiscardsReloadedValue() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TieredCache tiered = refreshingCache(key -> Duration.ZERO);
+        tiered.enableRefreshAhead(new RefreshAhead(key -> {
+            // An ingestion commits and evicts the season after the reload read the old rows
+            tiered.evict(key);
+            return "old season";
+        }, 0.8, scheduled::add));
+        tiered.put(2024, "season");
+
+        tiered.get(2024);
+        scheduled.get(0).run();
+
+        assertNull(l1.get(2024));
+        assertNull(l2.get(2024));
+        assertEquals(1.0, meterRegistry.get("cache.refresh").tags("result", "discarded").counter().count());
+    }
+
+    private TieredCache refreshingCache(CacheExpiryPolicy lifetime) {
+        return new TieredCache("races", l1, l2, invalidationBus, meterRegistry, lifetime);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets").tags("tier", tier, "result", result).counter().count();
+    }
+}
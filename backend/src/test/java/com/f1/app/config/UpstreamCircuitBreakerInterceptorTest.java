@@ -0,0 +1,83 @@
+package com.f1.app.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import com.f1.app.service.UpstreamCircuitBreaker;
+
+class UpstreamCircuitBreakerInterceptorTest {
+
+    private final UpstreamCircuitBreaker circuitBreaker = mock(UpstreamCircuitBreaker.class);
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    private final UpstreamCircuitBreakerInterceptor interceptor = new UpstreamCircuitBreakerInterceptor(circuitBreaker);
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.jolpi.ca/ergast/f1/2023/results.json"));
+
+    @Test
+    void intercept_WhenBodyReadFully_RecordsSuccessOnClose() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK));
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+        verify(circuitBreaker, never()).onSuccess();
+        response.getBody().readAllBytes();
+        response.close();
+
+        verify(circuitBreaker).onSuccess();
+        verify(circuitBreaker, never()).onFailure();
+    }
+
+    @Test
+    void intercept_WhenBodyReadTimesOut_RecordsFailure() throws IOException {
+        InputStream stalled = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new SocketTimeoutException("Read timed out");
+            }
+        };
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(stalled, HttpStatus.OK));
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+        assertThrows(SocketTimeoutException.class, () -> response.getBody().read());
+        response.close();
+
+        verify(circuitBreaker).onFailure();
+        verify(circuitBreaker, never()).onSuccess();
+    }
+
+    @Test
+    void intercept_WhenServerError_RecordsFailureWithoutWaitingForBody() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(
+                new MockClientHttpResponse(new ByteArrayInputStream(new byte[0]), HttpStatus.BAD_GATEWAY));
+
+        interceptor.intercept(request, new byte[0], execution).close();
+
+        verify(circuitBreaker).onFailure();
+        verify(circuitBreaker, never()).onSuccess();
+    }
+
+    @Test
+    void intercept_WhenConnectionFails_RecordsFailure() throws IOException {
+        when(execution.execute(any(), any())).thenThrow(new IOException("Connection reset"));
+
+        assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+
+        verify(circuitBreaker).onFailure();
+    }
+}
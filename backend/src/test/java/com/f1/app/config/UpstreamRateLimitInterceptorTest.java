@@ -0,0 +1,102 @@
+package com.f1.app.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import com.f1.app.service.UpstreamRateLimiter;
+
+class UpstreamRateLimitInterceptorTest {
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final UpstreamRateLimiter rateLimiter = mock(UpstreamRateLimiter.class);
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    private final UpstreamRateLimitInterceptor interceptor =
+            new UpstreamRateLimitInterceptor(rateLimiter, DEFAULT_RETRY_AFTER);
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.jolpi.ca/ergast/f1/2023/results.json"));
+
+    @Test
+    void intercept_WhenThrottled_ReportsRetryAfterToLimiter() throws IOException {
+        MockClientHttpResponse throttled = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        throttled.getHeaders().set("Retry-After", "7");
+        when(execution.execute(any(), any())).thenReturn(throttled);
+
+        interceptor.intercept(request, new byte[0], execution);
+
+        verify(rateLimiter).acquire();
+        verify(rateLimiter).onThrottled(Duration.ofSeconds(7));
+        verify(rateLimiter, never()).onSuccess();
+    }
+
+    @Test
+    void intercept_WhenSuccessful_ReportsSuccess() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        interceptor.intercept(request, new byte[0], execution);
+
+        verify(rateLimiter).onSuccess();
+        verify(rateLimiter, never()).onThrottled(any());
+    }
+
+    @Test
+    void intercept_WhenServerError_LeavesRateUnchanged() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(
+                new MockClientHttpResponse(new byte[0], HttpStatus.INTERNAL_SERVER_ERROR));
+
+        interceptor.intercept(request, new byte[0], execution);
+
+        verify(rateLimiter, never()).onSuccess();
+        verify(rateLimiter, never()).onThrottled(any());
+    }
+
+    @Test
+    void parseRetryAfter_WithDeltaSeconds_ReturnsThatDelay() {
+        assertEquals(Duration.ofSeconds(120), interceptor.parseRetryAfter("120"));
+        assertEquals(Duration.ofSeconds(3), interceptor.parseRetryAfter(" 3 "));
+        assertEquals(Duration.ZERO, interceptor.parseRetryAfter("-4"));
+    }
+
+    @Test
+    void parseRetryAfter_WithHttpDate_ReturnsDelayUntilThatDate() {
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+
+        Duration delay = interceptor.parseRetryAfter(inOneMinute);
+
+        // RFC 1123 dates have whole-second precision
+        assertTrue(delay.compareTo(Duration.ofSeconds(58)) >= 0 && delay.compareTo(Duration.ofSeconds(60)) <= 0,
+                "unexpected delay " + delay);
+    }
+
+    @Test
+    void parseRetryAfter_WithPastHttpDate_ReturnsZero() {
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(5));
+
+        assertEquals(Duration.ZERO, interceptor.parseRetryAfter(past));
+    }
+
+    @Test
+    void parseRetryAfter_WhenMissingOrUnparseable_ReturnsDefault() {
+        assertEquals(DEFAULT_RETRY_AFTER, interceptor.parseRetryAfter(null));
+        assertEquals(DEFAULT_RETRY_AFTER, interceptor.parseRetryAfter(" "));
+        assertEquals(DEFAULT_RETRY_AFTER, interceptor.parseRetryAfter("soon"));
+    }
+}
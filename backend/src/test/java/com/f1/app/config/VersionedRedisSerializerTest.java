@@ -0,0 +1,66 @@
+package com.f1.app.config;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.f1.app.dto.ChampionDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class VersionedRedisSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JavaType championListType =
+            mapper.getTypeFactory().constructCollectionType(List.class, ChampionDTO.class);
+    private final List<CacheCodec> readers =
+            List.of(CacheCodec.json(mapper, championListType), CacheCodec.smile(championListType));
+
+    @Test
+    void serialize_WithSmile_RoundTripsAndIsSmallerThanJson() throws Exception {
+        VersionedRedisSerializer serializer =
+                new VersionedRedisSerializer(CacheCodec.smile(championListType), readers, Integer.MAX_VALUE);
+        List<ChampionDTO> champions = champions(20);
+
+        byte[] bytes = serializer.serialize(champions);
+
+        assertEquals(CacheCodec.SMILE, bytes[0]);
+        assertEquals(champions, serializer.deserialize(bytes));
+        assertTrue(bytes.length < mapper.writeValueAsBytes(champions).length);
+    }
+
+    @Test
+    void serialize_AboveThreshold_Compresses() {
+        VersionedRedisSerializer serializer =
+                new VersionedRedisSerializer(CacheCodec.smile(championListType), readers, 256);
+        List<ChampionDTO> champions = champions(200);
+
+        byte[] bytes = serializer.serialize(champions);
+
+        assertEquals(1, bytes[1]);
+        assertEquals(champions, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_ReadsEntriesWrittenByPreviousCodecs() throws Exception {
+        VersionedRedisSerializer jsonWriter =
+                new VersionedRedisSerializer(CacheCodec.json(mapper, championListType), readers, Integer.MAX_VALUE);
+        VersionedRedisSerializer smileWriter =
+                new VersionedRedisSerializer(CacheCodec.smile(championListType), readers, Integer.MAX_VALUE);
+        List<ChampionDTO> champions = champions(3);
+
+        assertEquals(champions, smileWriter.deserialize(jsonWriter.serialize(champions)));
+        // Headerless JSON written before entries were versioned
+        assertEquals(champions, smileWriter.deserialize(mapper.writeValueAsBytes(champions)));
+    }
+
+    private static List<ChampionDTO> champions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ChampionDTO(2000 + i, "driver_" + i, "DRV", "Given", "Family", "British",
+                        400.0f + i, 10))
+                .toList();
+    }
+}
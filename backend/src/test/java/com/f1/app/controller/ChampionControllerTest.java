@@ -1,20 +1,30 @@
 package com.f1.app.controller;
 
 import com.f1.app.dto.ChampionDTO;
+import com.f1.app.exception.UpstreamUnavailableException;
 import com.f1.app.service.ChampionService;
+import com.f1.app.service.StaleDataStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +33,10 @@ class ChampionControllerTest {
     private final int TEST_YEAR = 2023;
     @Mock
     private ChampionService championService;
+    @Mock
+    private StaleDataStore staleDataStore;
+    @Spy
+    private ResponseBodyCache responseBodyCache = new ResponseBodyCache(new ObjectMapper());
     @InjectMocks
     private ChampionController championController;
     private MockMvc mockMvc;
@@ -43,6 +57,18 @@ class ChampionControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getChampions_WritesSerializedList() throws Exception {
+        // Arrange
+        when(championService.getChampions()).thenReturn(ResponseEntity.ok(List.of(createTestChampion())));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/champions"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$[0].driverId").value("max_verstappen"));
+    }
+
     @Test
     void getChampion_WhenNoChampion_ReturnsNotFound() throws Exception {
         // Arrange
@@ -53,6 +79,18 @@ class ChampionControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getChampion_WhenUpstreamUnavailable_ServesStaleData() throws Exception {
+        // Arrange
+        when(championService.getChampion(TEST_YEAR)).thenThrow(new UpstreamUnavailableException());
+        when(staleDataStore.getChampion(TEST_YEAR)).thenReturn(Optional.of(createTestChampion()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/champions/{year}", TEST_YEAR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Data-Stale", "true"));
+    }
+
     private ChampionDTO createTestChampion() {
         return ChampionDTO.builder()
                 .year(TEST_YEAR)
@@ -1,23 +1,30 @@
 package com.f1.app.controller;
 
 import com.f1.app.dto.RaceDTO;
+import com.f1.app.exception.UpstreamUnavailableException;
 import com.f1.app.model.Race;
 import com.f1.app.service.RaceService;
+import com.f1.app.service.StaleDataStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,10 @@ class RaceControllerTest {
     private final int TEST_YEAR = 2023;
     @Mock
     private RaceService raceService;
+    @Mock
+    private StaleDataStore staleDataStore;
+    @Spy
+    private ResponseBodyCache responseBodyCache = new ResponseBodyCache(new ObjectMapper());
     @InjectMocks
     private RaceController raceController;
     private MockMvc mockMvc;
@@ -46,6 +57,22 @@ class RaceControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getRacesByYear_WhenGzipAccepted_WritesCompressedBytes() throws Exception {
+        // Arrange
+        List<RaceDTO> races = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            races.addAll(createTestRaces());
+        }
+        when(raceService.getRacesByYear(TEST_YEAR)).thenReturn(races);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/races/{year}", TEST_YEAR).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")));
+    }
+
     @Test
     void getRacesByYear_WhenNoRaces_ReturnsNotFound() throws Exception {
         // Arrange
@@ -56,6 +83,18 @@ class RaceControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getRacesByYear_WhenUpstreamUnavailable_ServesStaleData() throws Exception {
+        // Arrange
+        when(raceService.getRacesByYear(TEST_YEAR)).thenThrow(new UpstreamUnavailableException());
+        when(staleDataStore.getRaces(TEST_YEAR)).thenReturn(Optional.of(createTestRaces()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/races/{year}", TEST_YEAR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Data-Stale", "true"));
+    }
+
     private List<RaceDTO> createTestRaces() {
         List<RaceDTO> races = new ArrayList<>();
         RaceDTO race = RaceDTO.fromEntity(Race.builder()
@@ -0,0 +1,55 @@
+package com.f1.app.controller;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResponseBodyCache responseBodyCache = new ResponseBodyCache(objectMapper);
+
+    @Test
+    void encode_ReusesBytesWhileSourceInstanceIsUnchanged() {
+        List<String> body = List.of("a", "b");
+
+        ResponseBodyCache.EncodedBody first = responseBodyCache.encode("races:2023", body);
+        ResponseBodyCache.EncodedBody second = responseBodyCache.encode("races:2023", body);
+        ResponseBodyCache.EncodedBody reloaded = responseBodyCache.encode("races:2023", List.of("a", "b"));
+
+        assertSame(first, second);
+        assertNotSame(first, reloaded);
+    }
+
+    @Test
+    void ok_WhenGzipAccepted_ReturnsCompressedJson() throws Exception {
+        List<String> body = Collections.nCopies(200, "Red Bull Racing");
+
+        ResponseEntity<byte[]> response = responseBodyCache.ok("races:2023", body, "gzip");
+
+        assertEquals("gzip", response.getHeaders().getFirst("Content-Encoding"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(body), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void ok_WhenBodyIsSmall_ReturnsIdentity() throws Exception {
+        ResponseEntity<byte[]> response = responseBodyCache.ok("champions", List.of("a"), "gzip");
+
+        assertNull(response.getHeaders().getFirst("Content-Encoding"));
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of("a")), response.getBody());
+    }
+}
@@ -0,0 +1,55 @@
+package com.f1.app.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BackfillJournalTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private BackfillJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void completedUnits_ReturnsJournaledUnits() {
+        when(jdbcTemplate.queryForList(BackfillJournal.SELECT_COMPLETED, Integer.class, "champions"))
+                .thenReturn(List.of(2021, 2022));
+
+        assertEquals(Set.of(2021, 2022), journal.completedUnits("champions"));
+    }
+
+    @Test
+    void markCompleted_UpsertsCompletedStatus() {
+        journal.markCompleted("champions", 2021);
+
+        verify(jdbcTemplate).update(BackfillJournal.MARK, "champions", 2021, BackfillJournal.COMPLETED, null);
+    }
+
+    @Test
+    void markFailed_TruncatesLongErrors() {
+        journal.markFailed("champions", 2021, "x".repeat(2000));
+
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(eq(BackfillJournal.MARK), eq("champions"), eq(2021),
+                eq(BackfillJournal.FAILED), error.capture());
+        assertEquals(512, ((String) error.getValue()).length());
+    }
+}
@@ -0,0 +1,97 @@
+package com.f1.app.repository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.f1.app.dto.RaceResultDTO;
+
+class DimensionRepositoryTest {
+
+    private static final RaceResultDTO.DriverDTO VERSTAPPEN =
+            new RaceResultDTO.DriverDTO("max_verstappen", "VER", "Max", "Verstappen", "Dutch");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private DimensionRepository dimensionRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void load_FillsDictionaryWithoutFurtherQueries() {
+        when(jdbcTemplate.query(eq(DimensionRepository.SELECT_DRIVERS), any(RowMapper.class)))
+                .thenReturn(List.of(VERSTAPPEN));
+
+        dimensionRepository.load();
+
+        assertSame(VERSTAPPEN, dimensionRepository.driver("max_verstappen"));
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void driver_WhenNotLoaded_LooksUpOnceAndCaches() {
+        when(jdbcTemplate.query(eq(DimensionRepository.SELECT_DRIVERS + " WHERE driver_id = ?"), any(RowMapper.class),
+                eq("max_verstappen"))).thenReturn(List.of(VERSTAPPEN));
+
+        assertEquals(VERSTAPPEN, dimensionRepository.driver("max_verstappen"));
+        assertEquals(VERSTAPPEN, dimensionRepository.driver("max_verstappen"));
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq("max_verstappen"));
+        assertNull(dimensionRepository.driver(null));
+    }
+
+    @Test
+    void saveDrivers_WritesOnlyNewOrChangedRows() {
+        assertEquals(1, dimensionRepository.saveDrivers(List.of(VERSTAPPEN)));
+        assertEquals(0, dimensionRepository.saveDrivers(List.of(VERSTAPPEN)));
+
+        RaceResultDTO.DriverDTO renamed = new RaceResultDTO.DriverDTO("max_verstappen", "VER", "Max",
+                "Verstappen", "Belgian");
+        assertEquals(1, dimensionRepository.saveDrivers(List.of(renamed)));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(DimensionRepository.UPSERT_DRIVER), anyList());
+        assertSame(renamed, dimensionRepository.driver("max_verstappen"));
+    }
+
+    @Test
+    void saveDrivers_InTransaction_UpdatesDictionaryOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dimensionRepository.saveDrivers(List.of(VERSTAPPEN));
+            // Rolled back: the next save must write the row again
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, dimensionRepository.saveDrivers(List.of(VERSTAPPEN)));
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(DimensionRepository.UPSERT_DRIVER), anyList());
+    }
+}
@@ -0,0 +1,218 @@
+package com.f1.app.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.f1.app.dto.RaceResultDTO;
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+
+class RaceBulkWriterTest {
+
+    private static final int SEASON = 2023;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DimensionRepository dimensionRepository;
+
+    @InjectMocks
+    private RaceBulkWriter raceBulkWriter;
+
+    private final List<Map<String, Object>> storedRaces = new ArrayList<>();
+    private final List<Map<String, Object>> storedResults = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : storedRaces) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(RaceBulkWriter.SELECT_RACES), any(RowCallbackHandler.class), eq(SEASON));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : storedResults) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(RaceBulkWriter.SELECT_RESULTS), any(RowCallbackHandler.class), eq(SEASON));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void upsertSeason_WithEmptySeason_InsertsEverything() {
+        // Ids become visible once the first batch has run
+        doAnswer(invocation -> {
+            storedRace(1, 10L);
+            storedRace(2, 11L);
+            return new int[]{1, 1};
+        }).when(jdbcTemplate).batchUpdate(eq(RaceBulkWriter.UPSERT_RACE), any(List.class));
+        List<Race> races = List.of(race(1, "hamilton", "verstappen"), race(2, "leclerc"));
+
+        RaceBulkWriter.SeasonWrite write = raceBulkWriter.upsertSeason(SEASON, races);
+
+        assertEquals(new RaceBulkWriter.SeasonWrite(2, 3, 0), write);
+        ArgumentCaptor<List<Object[]>> raceRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RaceBulkWriter.UPSERT_RACE), raceRows.capture());
+        assertArrayEquals(new Object[]{SEASON, 1, "Race 1", "2023-03-05", "15:00:00Z", "bahrain"},
+                raceRows.getValue().get(0));
+
+        ArgumentCaptor<List<Object[]>> resultRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RaceBulkWriter.UPSERT_RESULT), resultRows.capture());
+        List<Object[]> rows = resultRows.getValue();
+        assertEquals(3, rows.size());
+        assertEquals(10L, rows.get(0)[0]);
+        assertEquals("hamilton", rows.get(0)[1]);
+        assertEquals(11L, rows.get(2)[0]);
+        assertEquals("leclerc", rows.get(2)[1]);
+        ArgumentCaptor<Collection<RaceResultDTO.DriverDTO>> drivers = ArgumentCaptor.forClass(Collection.class);
+        verify(dimensionRepository).saveDrivers(drivers.capture());
+        assertEquals(3, drivers.getValue().size());
+        verify(dimensionRepository).saveCircuits(argThat(circuits -> circuits.size() == 1));
+        // Nothing was stored before, so existing results are not queried
+        verify(jdbcTemplate, never()).query(eq(RaceBulkWriter.SELECT_RESULTS), any(RowCallbackHandler.class), eq(SEASON));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void upsertSeason_WithUnchangedSeason_WritesNothing() {
+        storedRace(1, 10L);
+        storedResult(1, "hamilton", 1, 25f);
+        storedResult(1, "verstappen", 1, 25f);
+
+        RaceBulkWriter.SeasonWrite write = raceBulkWriter.upsertSeason(SEASON, List.of(race(1, "hamilton", "verstappen")));
+
+        assertEquals(new RaceBulkWriter.SeasonWrite(0, 0, 2), write);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void upsertSeason_WritesOnlyChangedAndNewResults() {
+        storedRace(1, 10L);
+        storedResult(1, "hamilton", 1, 25f);
+        // Post-race penalty: stored as P1, upstream now reports P5
+        storedResult(1, "verstappen", 1, 25f);
+        Race race = race(1, "hamilton", "verstappen", "leclerc");
+        race.getResults().get(1).setPosition(5);
+
+        RaceBulkWriter.SeasonWrite write = raceBulkWriter.upsertSeason(SEASON, List.of(race));
+
+        assertEquals(new RaceBulkWriter.SeasonWrite(0, 2, 1), write);
+        verify(jdbcTemplate, never()).batchUpdate(eq(RaceBulkWriter.UPSERT_RACE), any(List.class));
+        ArgumentCaptor<List<Object[]>> resultRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RaceBulkWriter.UPSERT_RESULT), resultRows.capture());
+        List<Object[]> rows = resultRows.getValue();
+        assertEquals(2, rows.size());
+        assertEquals("verstappen", rows.get(0)[1]);
+        assertEquals("leclerc", rows.get(1)[1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void upsertSeason_SkipsResultsWithoutDriver() {
+        storedRace(1, 10L);
+        Race race = race(1, "hamilton");
+        race.addResult(RaceResult.builder().position(2).build());
+
+        RaceBulkWriter.SeasonWrite write = raceBulkWriter.upsertSeason(SEASON, List.of(race));
+
+        assertEquals(1, write.results());
+        ArgumentCaptor<List<Object[]>> resultRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RaceBulkWriter.UPSERT_RESULT), resultRows.capture());
+        assertEquals(1, resultRows.getValue().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void upsertSeason_WithNoRaces_DoesNothing() {
+        assertEquals(new RaceBulkWriter.SeasonWrite(0, 0, 0), raceBulkWriter.upsertSeason(SEASON, List.of()));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    private void storedRace(int round, long id) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("round", round);
+        row.put("race_name", "Race " + round);
+        row.put("date", "2023-03-05");
+        row.put("time", "15:00:00Z");
+        row.put("circuit_id", "bahrain");
+        storedRaces.add(row);
+    }
+
+    private void storedResult(int round, String driverId, Integer position, Float points) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("round", round);
+        row.put("driver_id", driverId);
+        row.put("position", position);
+        row.put("position_text", String.valueOf(position));
+        row.put("points", points);
+        storedResults.add(row);
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getInt(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getLong(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getString(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        return rs;
+    }
+
+    private Race race(int round, String... driverIds) {
+        Race race = Race.builder()
+                .season(SEASON)
+                .round(round)
+                .raceName("Race " + round)
+                .date("2023-03-05")
+                .time("15:00:00Z")
+                .circuit(Race.Circuit.builder()
+                        .circuitId("bahrain")
+                        .circuitName("Bahrain International Circuit")
+                        .locality("Sakhir")
+                        .country("Bahrain")
+                        .build())
+                .results(new ArrayList<>())
+                .build();
+        for (String driverId : driverIds) {
+            race.addResult(RaceResult.builder()
+                    .position(1)
+                    .positionText("1")
+                    .points(25f)
+                    .driver(RaceResult.Driver.builder().driverId(driverId).build())
+                    .build());
+        }
+        return race;
+    }
+}
@@ -0,0 +1,147 @@
+package com.f1.app.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.dto.RaceResultDTO;
+
+class RaceQueryRepositoryTest {
+
+    private static final RaceDTO.CircuitDTO BAHRAIN =
+            new RaceDTO.CircuitDTO("bahrain", "Bahrain International Circuit", "Sakhir", "Bahrain");
+    private static final RaceResultDTO.ConstructorDTO RED_BULL =
+            new RaceResultDTO.ConstructorDTO("red_bull", "Red Bull", "Austrian");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DimensionRepository dimensionRepository;
+
+    @InjectMocks
+    private RaceQueryRepository raceQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(dimensionRepository.circuit("bahrain")).thenReturn(BAHRAIN);
+        when(dimensionRepository.constructor("red_bull")).thenReturn(RED_BULL);
+        when(dimensionRepository.driver("verstappen"))
+                .thenReturn(new RaceResultDTO.DriverDTO("verstappen", "VER", "Max", "Verstappen", "Dutch"));
+    }
+
+    @Test
+    void extractSeason_GroupsResultsUnderTheirRace() throws SQLException {
+        List<Map<String, Object>> rows = List.of(
+                row(10L, 1, 100L, "hamilton"),
+                row(10L, 1, 101L, "verstappen"),
+                row(11L, 2, 102L, "leclerc"));
+
+        List<RaceDTO> races = raceQueryRepository.extractSeason(resultSet(rows));
+
+        assertEquals(2, races.size());
+        assertEquals(1, races.get(0).getRound());
+        assertEquals("Bahrain International Circuit", races.get(0).getCircuit().getCircuitName());
+        assertEquals(2, races.get(0).getResults().size());
+        assertEquals("verstappen", races.get(0).getResults().get(1).getDriver().getDriverId());
+        assertEquals("Red Bull", races.get(0).getResults().get(1).getConstructor().getName());
+        assertEquals(1, races.get(0).getResults().get(0).getPosition());
+        assertEquals(25f, races.get(0).getResults().get(0).getPoints());
+        assertEquals("leclerc", races.get(1).getResults().get(0).getDriver().getDriverId());
+        // Dimension rows are shared, not copied per result
+        assertSame(RED_BULL, races.get(1).getResults().get(0).getConstructor());
+        assertSame(BAHRAIN, races.get(1).getCircuit());
+    }
+
+    @Test
+    void extractSeason_UnknownDimensionId_KeepsOnlyTheId() throws SQLException {
+        List<RaceDTO> races = raceQueryRepository.extractSeason(resultSet(List.of(row(10L, 1, 100L, "hamilton"))));
+
+        RaceResultDTO.DriverDTO driver = races.get(0).getResults().get(0).getDriver();
+        assertEquals("hamilton", driver.getDriverId());
+        assertNull(driver.getFamilyName());
+    }
+
+    @Test
+    void extractSeason_RaceWithoutResults_HasEmptyResults() throws SQLException {
+        Map<String, Object> row = row(10L, 1, null, null);
+
+        List<RaceDTO> races = raceQueryRepository.extractSeason(resultSet(List.of(row)));
+
+        assertEquals(1, races.size());
+        assertTrue(races.get(0).getResults().isEmpty());
+    }
+
+    @Test
+    void extractSeason_NullEmbeddedColumns_MapToNullObjects() throws SQLException {
+        Map<String, Object> row = row(10L, 1, 100L, "hamilton");
+        row.remove("constructor_id");
+
+        List<RaceDTO> races = raceQueryRepository.extractSeason(resultSet(List.of(row)));
+
+        assertNull(races.get(0).getResults().get(0).getConstructor());
+        assertNull(races.get(0).getResults().get(0).getTime());
+    }
+
+    private static Map<String, Object> row(Long raceId, int round, Long resultId, String driverId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("race_id", raceId);
+        row.put("season", 2023);
+        row.put("round", round);
+        row.put("race_name", "Race " + round);
+        row.put("date", "2023-03-05");
+        row.put("circuit_id", "bahrain");
+        row.put("result_id", resultId);
+        if (resultId != null) {
+            row.put("position", 1);
+            row.put("position_text", "1");
+            row.put("points", 25f);
+            row.put("driver_id", driverId);
+            row.put("constructor_id", "red_bull");
+        }
+        return row;
+    }
+
+    // Minimal forward-only ResultSet over the given rows
+    private static ResultSet resultSet(List<Map<String, Object>> rows) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        int[] cursor = {-1};
+        Object[] last = {null};
+        List<Map<String, Object>> data = new ArrayList<>(rows);
+        when(rs.next()).thenAnswer(invocation -> ++cursor[0] < data.size());
+        when(rs.getString(anyString())).thenAnswer(invocation ->
+                last[0] = data.get(cursor[0]).get(invocation.<String>getArgument(0)));
+        when(rs.getObject(anyString(), any(Class.class))).thenAnswer(invocation ->
+                last[0] = data.get(cursor[0]).get(invocation.<String>getArgument(0)));
+        when(rs.getInt(anyString())).thenAnswer(invocation -> {
+            last[0] = data.get(cursor[0]).get(invocation.<String>getArgument(0));
+            return last[0] == null ? 0 : last[0];
+        });
+        when(rs.getLong(anyString())).thenAnswer(invocation -> {
+            last[0] = data.get(cursor[0]).get(invocation.<String>getArgument(0));
+            return last[0] == null ? 0L : last[0];
+        });
+        when(rs.wasNull()).thenAnswer(invocation -> last[0] == null);
+        return rs;
+    }
+}
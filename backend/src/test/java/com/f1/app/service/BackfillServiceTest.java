@@ -0,0 +1,147 @@
+package com.f1.app.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.f1.app.repository.BackfillJournal;
+
+class BackfillServiceTest {
+
+    private final BackfillJournal journal = mock(BackfillJournal.class);
+
+    private final BackfillService backfillService = new BackfillService(Runnable::run, 1, journal,
+            TransactionOperations.withoutTransaction());
+
+    @Test
+    void run_ShouldProcessEveryYearAndCountOutcomes() {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        BackfillService.BackfillReport report = backfillService.run("test", List.of(2021, 2022, 2023), year -> {
+            processed.add(year);
+            return year != 2022;
+        });
+
+        assertEquals(Set.of(2021, 2022, 2023), processed);
+        assertEquals(3, report.total());
+        assertEquals(2, report.stored());
+        assertEquals(1, report.skipped());
+        assertEquals(0, report.failed());
+    }
+
+    @Test
+    void run_WhenTaskThrows_ShouldContinueWithRemainingYears() {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        BackfillService.BackfillReport report = backfillService.run("test", List.of(2021, 2022, 2023), year -> {
+            if (year == 2021) {
+                throw new RuntimeException("API error");
+            }
+            processed.add(year);
+            return true;
+        });
+
+        assertEquals(Set.of(2022, 2023), processed);
+        assertEquals(1, report.failed());
+        assertEquals(2, report.stored());
+        assertTrue(report.elapsed().toNanos() > 0);
+    }
+
+    @Test
+    void run_ShouldSkipYearsAlreadyJournaledAsCompleted() {
+        when(journal.completedUnits("test")).thenReturn(Set.of(2021, 2022));
+        Set<Integer> fetched = ConcurrentHashMap.newKeySet();
+        Set<Integer> stored = ConcurrentHashMap.newKeySet();
+
+        BackfillService.BackfillReport report = backfillService.run("test", List.of(2021, 2022, 2023),
+                new BackfillService.UnitOfWork<String>() {
+                    @Override
+                    public String fetch(int year) {
+                        fetched.add(year);
+                        return "data-" + year;
+                    }
+
+                    @Override
+                    public void store(int year, String data) {
+                        stored.add(year);
+                    }
+                });
+
+        assertEquals(Set.of(2023), fetched);
+        assertEquals(Set.of(2023), stored);
+        assertEquals(1, report.total());
+        verify(journal).markCompleted("test", 2023);
+        verify(journal).clearCompleted("test");
+    }
+
+    @Test
+    void run_ShouldAlwaysRunAndNeverJournalUnjournaledYears() {
+        when(journal.completedUnits("test")).thenReturn(Set.of(2022, 2023));
+        Set<Integer> fetched = ConcurrentHashMap.newKeySet();
+
+        backfillService.run("test", List.of(2023, 2022), new BackfillService.UnitOfWork<String>() {
+            @Override
+            public String fetch(int year) {
+                fetched.add(year);
+                return "data-" + year;
+            }
+
+            @Override
+            public void store(int year, String data) {
+            }
+
+            @Override
+            public boolean journaled(int year) {
+                return year != 2023;
+            }
+        });
+
+        assertEquals(Set.of(2023), fetched);
+        verify(journal, never()).markCompleted("test", 2023);
+    }
+
+    @Test
+    void run_WhenYearFails_ShouldJournalFailureAndKeepCompletedYears() {
+        backfillService.run("test", List.of(2021, 2022), new BackfillService.UnitOfWork<String>() {
+            @Override
+            public String fetch(int year) {
+                return "data-" + year;
+            }
+
+            @Override
+            public void store(int year, String data) {
+                if (year == 2022) {
+                    throw new IllegalStateException("constraint violation");
+                }
+            }
+        });
+
+        verify(journal).markCompleted("test", 2021);
+        verify(journal, never()).markCompleted("test", 2022);
+        verify(journal).markFailed("test", 2022, "constraint violation");
+        verify(journal, never()).clearCompleted(anyString());
+    }
+
+    @Test
+    void run_WhenJournalUnreadable_ShouldProcessEveryYear() {
+        when(journal.completedUnits("test")).thenThrow(new RuntimeException("table missing"));
+
+        BackfillService.BackfillReport report = backfillService.run("test", List.of(2021, 2022), year -> true);
+
+        assertEquals(2, report.stored());
+        verify(journal, times(2)).markCompleted(eq("test"), anyInt());
+    }
+}
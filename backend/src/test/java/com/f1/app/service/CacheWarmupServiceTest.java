@@ -0,0 +1,101 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.f1.app.dto.ChampionDTO;
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.exception.ServiceException;
+import com.f1.app.repository.RaceQueryRepository;
+import com.f1.app.service.CacheWarmupService.WarmupReport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheWarmupServiceTest {
+
+    @Mock
+    private RaceQueryRepository raceQueryRepository;
+    @Mock
+    private ChampionService championService;
+
+    private CacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheWarmupService cacheWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cacheManager = new ConcurrentMapCacheManager("races");
+        meterRegistry = new SimpleMeterRegistry();
+        cacheWarmupService = new CacheWarmupService(Runnable::run, cacheManager, raceQueryRepository,
+                championService, meterRegistry, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void warmUp_LoadsSeasonsFromCacheOrDatabase() throws Exception {
+        int currentYear = Year.now().getValue();
+        List<RaceDTO> cached = List.of(new RaceDTO());
+        List<RaceDTO> stored = List.of(new RaceDTO());
+        cacheManager.getCache("races").put(2005, cached);
+        when(raceQueryRepository.findBySeason(anyInt())).thenReturn(List.of());
+        when(raceQueryRepository.findBySeason(2006)).thenReturn(stored);
+        when(championService.getChampions()).thenReturn(ResponseEntity.ok(List.of(new ChampionDTO())));
+
+        WarmupReport report = cacheWarmupService.warmUp().get();
+
+        assertEquals(1, report.champions());
+        assertEquals(1, report.seasonsFromCache());
+        assertEquals(1, report.seasonsFromDatabase());
+        assertEquals(currentYear - CacheWarmupService.FIRST_SEASON - 1, report.seasonsMissing());
+        assertEquals(stored, cacheManager.getCache("races").get(2006).get());
+        verify(raceQueryRepository, never()).findBySeason(2005);
+        assertEquals(1.0, meterRegistry.get("cache.warmup.entries")
+                .tag("cache", "races").tag("source", "database").counter().count());
+        assertNotNull(meterRegistry.get("cache.warmup.duration").timer());
+        assertTrue(cacheWarmupService.report().isPresent());
+    }
+
+    @Test
+    void warmUp_WhenChampionsFail_StillCompletes() throws Exception {
+        when(raceQueryRepository.findBySeason(anyInt())).thenReturn(List.of());
+        when(championService.getChampions()).thenThrow(
+                new ServiceException("No champions found", "NO_CHAMPIONS_FOUND", HttpStatus.NOT_FOUND.value()));
+
+        WarmupReport report = cacheWarmupService.warmUp().get();
+
+        assertEquals(0, report.champions());
+        assertTrue(cacheWarmupService.report().isPresent());
+    }
+
+    @Test
+    void isTimedOut_BeforeTimeoutAndWithoutReport_ReturnsFalse() {
+        assertFalse(cacheWarmupService.isTimedOut());
+        assertTrue(cacheWarmupService.report().isEmpty());
+    }
+
+    @Test
+    void isTimedOut_AfterTimeoutWithoutReport_ReturnsTrue() {
+        CacheWarmupService expired = new CacheWarmupService(Runnable::run, cacheManager, raceQueryRepository,
+                championService, meterRegistry, Duration.ZERO);
+
+        assertTrue(expired.isTimedOut());
+    }
+}
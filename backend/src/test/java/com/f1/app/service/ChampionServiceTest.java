@@ -4,7 +4,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -17,8 +17,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
@@ -27,14 +30,18 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.f1.app.dto.ChampionDTO;
 import com.f1.app.exception.ServiceException;
 import com.f1.app.model.Champion;
 import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.BackfillJournal;
 import com.f1.app.repository.ChampionRepository;
 import com.f1.app.repository.SeasonInfoRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ChampionServiceTest {
 
     @Mock
@@ -55,6 +62,18 @@ class ChampionServiceTest {
     @Mock
     private Cache redisCache;
 
+    private final BackfillJournal backfillJournal = mock(BackfillJournal.class);
+
+    @Spy
+    private BackfillService backfillService = new BackfillService(Runnable::run, 1,
+            backfillJournal, TransactionOperations.withoutTransaction());
+
+    @Mock
+    private StaleDataStore staleDataStore;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
     @InjectMocks
     private ChampionService championService;
 
@@ -66,6 +85,8 @@ class ChampionServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         ReflectionTestUtils.setField(championService, "redisCacheManager", redisCacheManager);
+        ReflectionTestUtils.setField(championService, "championSnapshot",
+                new ChampionSnapshot(championRepository, seasonInfoRepository));
         
         // Mock Redis cache behavior
         when(redisCacheManager.getCache(anyString())).thenReturn(redisCache);
@@ -121,20 +142,19 @@ class ChampionServiceTest {
 
     @Test
     void getChampion_WhenExistsInDatabase_ShouldReturnChampion() {
-        when(championRepository.findByYear(2023)).thenReturn(Optional.of(testChampion));
+        when(championRepository.findAll()).thenReturn(List.of(champion2023()));
 
         ResponseEntity<ChampionDTO> response = championService.getChampion(2023);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         ChampionDTO champion = response.getBody();
         assertEquals(testChampion.getDriverId(), champion.getDriverId());
-        verify(championRepository).findByYear(2023);
+        verify(championRepository, never()).findByYear(anyInt());
         verify(ergastApiService, never()).fetchWorldChampion(anyInt());
     }
 
     @Test
     void getChampion_WhenNotInDatabase_ShouldFetchFromApi() {
-        when(championRepository.findByYear(2023)).thenReturn(Optional.empty());
         when(ergastApiService.fetchWorldChampion(2023)).thenReturn(ResponseEntity.ok(testChampion));
         when(championRepository.save(testChampion)).thenReturn(testChampion);
 
@@ -143,7 +163,6 @@ class ChampionServiceTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         ChampionDTO champion = response.getBody();
         assertEquals(testChampion.getDriverId(), champion.getDriverId());
-        verify(championRepository).findByYear(2023);
         verify(ergastApiService).fetchWorldChampion(2023);
         verify(championRepository).save(testChampion);
     }
@@ -152,7 +171,6 @@ class ChampionServiceTest {
     void getChampion_WhenApiReturnsError_ShouldThrowServiceException() {
         // Arrange
         int year = 2023;
-        when(championRepository.findByYear(year)).thenReturn(Optional.empty());
         when(ergastApiService.fetchWorldChampion(year)).thenReturn(ResponseEntity.notFound().build());
 
         // Act & Assert
@@ -164,7 +182,6 @@ class ChampionServiceTest {
 
     @Test
     void getChampion_WhenSaveFails_ShouldStillReturnChampion() {
-        when(championRepository.findByYear(2023)).thenReturn(Optional.empty());
         when(ergastApiService.fetchWorldChampion(2023)).thenReturn(ResponseEntity.ok(testChampion));
         when(championRepository.save(testChampion)).thenThrow(new RuntimeException("Database error"));
 
@@ -173,7 +190,6 @@ class ChampionServiceTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         ChampionDTO champion = response.getBody();
         assertEquals(testChampion.getDriverId(), champion.getDriverId());
-        verify(championRepository).findByYear(2023);
         verify(ergastApiService).fetchWorldChampion(2023);
         verify(championRepository).save(testChampion);
     }
@@ -200,7 +216,7 @@ class ChampionServiceTest {
         // Arrange
         int pastYear = currentYear - 1;
         Champion pastChampion = new Champion(pastYear, "verstappen", "VER", "Max", "Verstappen", "Dutch", 454.0f, 15);
-        when(championRepository.findByYear(pastYear)).thenReturn(Optional.of(pastChampion));
+        when(championRepository.findAll()).thenReturn(List.of(pastChampion));
 
         // Act
         ResponseEntity<ChampionDTO> response = championService.getChampion(pastYear);
@@ -220,7 +236,7 @@ class ChampionServiceTest {
             .build();
         
         when(seasonInfoRepository.findByYear(currentYear)).thenReturn(seasonInfo);
-        when(championRepository.findByYear(currentYear)).thenReturn(Optional.of(testChampion));
+        when(championRepository.findAll()).thenReturn(List.of(testChampion));
 
         // Act
         ResponseEntity<ChampionDTO> response = championService.getChampion(currentYear);
@@ -260,7 +276,8 @@ class ChampionServiceTest {
         
         // Assert
         verify(cacheService).evictChampionCache("currentYear");
-        verify(championRepository).findAll();
+        // Once for the missing years, once to rebuild the snapshot after storing
+        verify(championRepository, times(2)).findAll();
         verify(ergastApiService).fetchWorldChampion(currentYear);
     }
 
@@ -280,6 +297,22 @@ class ChampionServiceTest {
         verify(ergastApiService).fetchWorldChampion(currentYear);
     }
 
+    @Test
+    void initializeChampionData_WhenCurrentYearJournaled_StillRefreshesItAndDoesNotJournalIt() {
+        // Arrange: an earlier run that did not finish left the current year journaled
+        when(championRepository.findAll()).thenReturn(Collections.emptyList());
+        when(backfillJournal.completedUnits("champions")).thenReturn(Set.of(currentYear));
+        when(ergastApiService.fetchWorldChampion(anyInt())).thenReturn(ResponseEntity.ok(testChampion));
+
+        // Act
+        championService.initializeChampionData();
+
+        // Assert
+        verify(ergastApiService).fetchWorldChampion(currentYear);
+        verify(backfillJournal, never()).markCompleted("champions", currentYear);
+        verify(backfillJournal).markCompleted("champions", currentYear - 1);
+    }
+
     @Test
     void initializeChampionData_ShouldAlwaysUpdateCurrentYear() {
         // Arrange
@@ -291,7 +324,8 @@ class ChampionServiceTest {
         
         // Assert
         verify(cacheService).evictChampionCache("currentYear");
-        verify(championRepository).findAll();
+        // Once for the missing years, once to rebuild the snapshot after storing
+        verify(championRepository, times(2)).findAll();
         verify(ergastApiService).fetchWorldChampion(currentYear);
     }
 
@@ -344,7 +378,7 @@ class ChampionServiceTest {
     }
 
     @Test
-    void getChampion_WhenNewChampionSaved_ShouldEvictAllChampionsCache() {
+    void getChampion_WhenNewChampionSaved_ShouldRefreshSnapshot() {
         // Arrange
         Champion champion = new Champion();
         champion.setYear(currentYear);
@@ -359,19 +393,22 @@ class ChampionServiceTest {
         when(ergastApiService.fetchWorldChampion(eq(currentYear)))
             .thenReturn(ResponseEntity.ok(champion));
         when(championRepository.save(any(Champion.class))).thenReturn(champion);
+        when(championRepository.findAll()).thenReturn(Collections.emptyList(), List.of(champion));
         
         // Act
         ResponseEntity<ChampionDTO> result = championService.getChampion(currentYear);
+        championService.getChampion(currentYear);
         
         // Assert
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        verify(cacheService).evictChampionCache("allChampions");
+        verify(championRepository, times(2)).findAll();
+        verify(ergastApiService).fetchWorldChampion(currentYear);
     }
 
     @Test
     void getChampion_WhenExistingChampion_ShouldNotEvictCache() {
         // Arrange
-        when(championRepository.findByYear(2023)).thenReturn(Optional.of(testChampion));
+        when(championRepository.findAll()).thenReturn(List.of(champion2023()));
 
         // Act
         championService.getChampion(2023);
@@ -397,4 +434,23 @@ class ChampionServiceTest {
         // Assert
         verify(cacheService, never()).evictChampionCache(anyString());
     }
+
+    @Test
+    void getChampions_ShouldServeRepeatedCallsFromSnapshot() {
+        // Arrange
+        when(championRepository.findAll()).thenReturn(List.of(champion2023()));
+
+        // Act
+        championService.getChampions();
+        championService.getChampions();
+        championService.getChampion(2023);
+
+        // Assert
+        verify(championRepository).findAll();
+        verify(seasonInfoRepository).findByYear(currentYear);
+    }
+
+    private Champion champion2023() {
+        return new Champion(2023, "test_driver", "TST", "Test", "Driver", "British", 400.0f, 10);
+    }
 }
@@ -1,9 +1,10 @@
 package com.f1.app.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -18,18 +19,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -40,19 +50,20 @@ import com.f1.app.exception.ServiceException;
 import com.f1.app.model.Champion;
 import com.f1.app.model.Race;
 import com.f1.app.model.RaceResult;
-import com.f1.app.repository.ChampionRepository;
-import com.f1.app.repository.RaceRepository;
+import com.f1.app.repository.RaceBulkWriter;
 
 class ErgastApiServiceTest {
     private final int TEST_YEAR = 2023;
     @Mock
     private RestTemplate restTemplate;
     @Mock
-    private ChampionRepository championRepository;
-    @Mock
-    private RaceRepository raceRepository;
+    private RaceBulkWriter raceBulkWriter;
     @Mock
     private CacheService cacheService;
+    @Spy
+    private UpstreamFetchExecutor fetchExecutor = new UpstreamFetchExecutor(Runnable::run);
+    @Spy
+    private ErgastResultsStreamReader resultsReader = new ErgastResultsStreamReader();
     @InjectMocks
     private ErgastApiService ergastApiService;
 
@@ -64,7 +75,7 @@ class ErgastApiServiceTest {
     // --- Champion tests (existing) ---
 
     @Test
-    void fetchWorldChampion_WhenApiReturnsChampion_SavesAndReturnsChampion() {
+    void fetchWorldChampion_WhenApiReturnsChampion_ReturnsChampion() {
         // Create response structure using builder pattern
         ErgastChampionResponse response = ErgastChampionResponse.builder()
                 .mrData(ErgastChampionResponse.MRData.builder()
@@ -92,19 +103,6 @@ class ErgastApiServiceTest {
 
         when(restTemplate.getForObject(anyString(), eq(ErgastChampionResponse.class))).thenReturn(response);
 
-        Champion champion = Champion.builder()
-                .year(TEST_YEAR)
-                .driverId("id")
-                .code("code")
-                .givenName("Max")
-                .familyName("Verstappen")
-                .nationality("Dutch")
-                .points(454.0f)
-                .wins(19)
-                .build();
-
-        when(championRepository.save(any(Champion.class))).thenReturn(champion);
-
         ResponseEntity<Champion> result = ergastApiService.fetchWorldChampion(TEST_YEAR);
 
         assertNotNull(result);
@@ -112,7 +110,7 @@ class ErgastApiServiceTest {
         assertNotNull(result.getBody());
         assertEquals("Max", result.getBody().getGivenName());
         assertEquals("Verstappen", result.getBody().getFamilyName());
-        verify(championRepository).save(any(Champion.class));
+        assertEquals(TEST_YEAR, result.getBody().getYear());
     }
 
     @Test
@@ -130,36 +128,6 @@ class ErgastApiServiceTest {
         assertThrows(RestClientException.class, () -> ergastApiService.fetchWorldChampion(TEST_YEAR));
     }
 
-    @Test
-    void fetchWorldChampion_WhenDbSaveFails_ThrowsException() {
-        // Create response structure
-        ErgastChampionResponse response = new ErgastChampionResponse();
-        ErgastChampionResponse.MRData mrData = new ErgastChampionResponse.MRData();
-        ErgastChampionResponse.StandingsTable standingsTable = new ErgastChampionResponse.StandingsTable();
-        ErgastChampionResponse.StandingsList standingsList = new ErgastChampionResponse.StandingsList();
-        ErgastChampionResponse.DriverStanding driverStanding = new ErgastChampionResponse.DriverStanding();
-        ErgastChampionResponse.Driver driver = new ErgastChampionResponse.Driver();
-
-        // Set up data
-        driver.setDriverId("id");
-        driver.setCode("code");
-        driver.setGivenName("Max");
-        driver.setFamilyName("Verstappen");
-        driver.setNationality("Dutch");
-        driverStanding.setDriver(driver);
-        driverStanding.setPoints("454.0");
-        driverStanding.setWins("19");
-        standingsList.setDriverStandings(new ErgastChampionResponse.DriverStanding[]{driverStanding});
-        standingsTable.setStandingsLists(new ErgastChampionResponse.StandingsList[]{standingsList});
-        mrData.setStandingsTable(standingsTable);
-        response.setMrData(mrData);
-
-        when(restTemplate.getForObject(anyString(), eq(ErgastChampionResponse.class))).thenReturn(response);
-        when(championRepository.save(any(Champion.class))).thenThrow(new RuntimeException("DB error"));
-
-        assertThrows(RuntimeException.class, () -> ergastApiService.fetchWorldChampion(TEST_YEAR));
-    }
-
     @Test
     void fetchAndSaveRaces_WhenDatabaseSaveFails_ThrowsException() {
         // Mock response
@@ -176,8 +144,8 @@ class ErgastApiServiceTest {
         when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
                 .thenReturn(ResponseEntity.ok(response));
 
-        // Mock repository to throw exception
-        when(raceRepository.save(any(Race.class))).thenThrow(new RuntimeException("Database error"));
+        // Mock writer to throw exception
+        when(raceBulkWriter.upsertSeason(eq(2023), any())).thenThrow(new RuntimeException("Database error"));
 
         // Execute and verify
         assertDoesNotThrow(() ->
@@ -191,7 +159,6 @@ class ErgastApiServiceTest {
         ErgastRaceResponse response = createRaceResponse(raceData);
         when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
                 .thenReturn(ResponseEntity.ok(response));
-        when(raceRepository.save(any(Race.class))).thenAnswer(i -> i.getArgument(0));
 
         // Act
         List<RaceDTO> result = ergastApiService.fetchAndSaveRaces(TEST_YEAR, "http://test-url");
@@ -232,9 +199,6 @@ class ErgastApiServiceTest {
                         .build())
                 .build();
 
-        // Mock repository to return the same race object that was passed
-        when(raceRepository.save(any(Race.class))).thenAnswer(i -> i.getArgument(0));
-
         // Mock API calls
         ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
         when(restTemplate.getForEntity(urlCaptor.capture(), eq(ErgastRaceResponse.class)))
@@ -276,6 +240,139 @@ class ErgastApiServiceTest {
         verify(restTemplate, times(2)).getForEntity(anyString(), eq(ErgastRaceResponse.class));
     }
 
+    @Test
+    void fetchAndSaveRaces_WhenSeveralPages_FetchesRemainingOffsetsAndMergesInOrder() {
+        // Arrange
+        when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
+            .thenAnswer(invocation -> {
+                String url = invocation.getArgument(0);
+                ErgastRaceResponse.RaceData race = url.contains("offset=0") ? createRaceData("1", "HAM")
+                        : url.contains("offset=100") ? createRaceData("1", "VER")
+                        : createRaceData("2", "VER");
+                return ResponseEntity.ok(ErgastRaceResponse.builder()
+                        .mrData(ErgastRaceResponse.MRData.builder()
+                                .total("250")
+                                .raceTable(ErgastRaceResponse.RaceTable.builder()
+                                        .races(List.of(race))
+                                        .build())
+                                .build())
+                        .build());
+            });
+
+        // Act
+        List<RaceDTO> result = ergastApiService.fetchAndSaveRaces(TEST_YEAR, "http://test-url");
+
+        // Assert
+        verify(restTemplate, times(3)).getForEntity(anyString(), eq(ErgastRaceResponse.class));
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).getRound());
+        assertEquals(List.of("HAM", "VER"), result.get(0).getResults().stream()
+            .map(raceResult -> raceResult.getDriver().getCode())
+            .collect(Collectors.toList()));
+        assertEquals(2, result.get(1).getRound());
+    }
+
+    @Test
+    void fetchAndSaveRaces_WithStreamingParser_ReadsSinglePage() {
+        // Arrange
+        ReflectionTestUtils.setField(ergastApiService, "streamingParser", true);
+        streamPages(Map.of(0, pageJson(1, raceJson("1", "VER"))));
+
+        // Act
+        List<RaceDTO> result = ergastApiService.fetchAndSaveRaces(TEST_YEAR, "http://test-url");
+
+        // Assert
+        verify(restTemplate).execute(anyString(), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class));
+        verify(restTemplate, never()).getForEntity(anyString(), eq(ErgastRaceResponse.class));
+        assertEquals(1, result.size());
+        assertEquals("Bahrain Grand Prix", result.get(0).getRaceName());
+        assertEquals("VER", result.get(0).getResults().get(0).getDriver().getCode());
+        verify(cacheService).evictRaceCache(TEST_YEAR);
+    }
+
+    @Test
+    void fetchAndSaveRaces_WithStreamingParser_FetchesRemainingPagesAndMergesInOrder() {
+        // Arrange: round 1's results are split across the page boundary
+        ReflectionTestUtils.setField(ergastApiService, "streamingParser", true);
+        streamPages(Map.of(
+                0, pageJson(200, raceJson("1", "HAM")),
+                100, pageJson(200, raceJson("1", "VER") + "," + raceJson("2", "VER"))));
+
+        // Act
+        List<RaceDTO> result = ergastApiService.fetchAndSaveRaces(TEST_YEAR, "http://test-url");
+
+        // Assert
+        verify(restTemplate).execute(argThat((String url) -> url.endsWith("offset=0")), eq(HttpMethod.GET), isNull(),
+                any(ResponseExtractor.class));
+        verify(restTemplate).execute(argThat((String url) -> url.endsWith("offset=100")), eq(HttpMethod.GET), isNull(),
+                any(ResponseExtractor.class));
+        assertEquals(2, result.size());
+        assertEquals(List.of("HAM", "VER"), result.get(0).getResults().stream()
+            .map(raceResult -> raceResult.getDriver().getCode())
+            .collect(Collectors.toList()));
+        assertEquals(2, result.get(1).getRound());
+    }
+
+    // Answers streaming calls by running the service's extractor over the JSON for the requested offset
+    @SuppressWarnings("unchecked")
+    private void streamPages(Map<Integer, String> pagesByOffset) {
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+            .thenAnswer(invocation -> {
+                String url = invocation.getArgument(0);
+                int offset = Integer.parseInt(url.substring(url.lastIndexOf("offset=") + "offset=".length()));
+                ResponseExtractor<ResultsPage> extractor = invocation.getArgument(3);
+                return extractor.extractData(new MockClientHttpResponse(
+                        pagesByOffset.get(offset).getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+            });
+    }
+
+    private String pageJson(int total, String races) {
+        return """
+                {"MRData": {"limit": "100", "total": "%d", "RaceTable": {"season": "2023", "Races": [%s]}}}
+                """.formatted(total, races);
+    }
+
+    private String raceJson(String round, String driverCode) {
+        return """
+                {"season": "2023", "round": "%s", "raceName": "%s", "date": "2023-03-05", "time": "15:00:00Z",
+                  "Circuit": {"circuitId": "bahrain", "circuitName": "Bahrain International Circuit",
+                    "Location": {"locality": "Sakhir", "country": "Bahrain"}},
+                  "Results": [{"position": "1", "positionText": "1", "points": "25", "grid": "1", "laps": "57",
+                    "status": "Finished",
+                    "Driver": {"driverId": "%s", "code": "%s", "givenName": "Test", "familyName": "Driver",
+                      "nationality": "Test"},
+                    "Constructor": {"constructorId": "red_bull", "name": "Red Bull", "nationality": "Austrian"}}]}
+                """.formatted(round, round.equals("1") ? "Bahrain Grand Prix" : "Saudi Arabian Grand Prix",
+                driverCode.toLowerCase(), driverCode);
+    }
+
+    @Test
+    void fetchAndSaveRaces_WhenLaterPageIsThrottled_PropagatesForRetry() {
+        // Arrange
+        ErgastRaceResponse firstPage = ErgastRaceResponse.builder()
+                .mrData(ErgastRaceResponse.MRData.builder()
+                        .total("200")
+                        .raceTable(ErgastRaceResponse.RaceTable.builder()
+                                .races(List.of(createRaceData("1", "HAM")))
+                                .build())
+                        .build())
+                .build();
+        when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
+            .thenAnswer(invocation -> {
+                String url = invocation.getArgument(0);
+                if (url.contains("offset=0")) {
+                    return ResponseEntity.ok(firstPage);
+                }
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                        new HttpHeaders(), new byte[0], null);
+            });
+
+        // Act & Assert
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () ->
+                ergastApiService.fetchAndSaveRaces(TEST_YEAR, "http://test-url"));
+        verify(cacheService, never()).evictRaceCache(TEST_YEAR);
+    }
+
     // Helper method to create mock race data
     private ErgastRaceResponse.RaceData createMockRaceData(String round, String raceName) {
         ErgastRaceResponse.RaceData raceData = new ErgastRaceResponse.RaceData();
@@ -370,6 +467,7 @@ class ErgastApiServiceTest {
                 .time("12:00:00Z")
                 .results(List.of(ErgastRaceResponse.ResultData.builder()
                         .position("1")
+                        .positionText("1")
                         .points("25")
                         .grid("1")
                         .laps("58")
@@ -400,10 +498,11 @@ class ErgastApiServiceTest {
         assertEquals(1, race.getResults().size());
         RaceResult rr = race.getResults().get(0);
         assertNotNull(rr);
-        assertEquals("1", rr.getPosition());
-        assertEquals("25", rr.getPoints());
-        assertEquals("1", rr.getGrid());
-        assertEquals("58", rr.getLaps());
+        assertEquals(1, rr.getPosition());
+        assertEquals("1", rr.getPositionText());
+        assertEquals(25f, rr.getPoints());
+        assertEquals(1, rr.getGrid());
+        assertEquals(58, rr.getLaps());
         assertEquals("Finished", rr.getStatus());
         assertNotNull(rr.getDriver());
         assertEquals("hamilton", rr.getDriver().getDriverId());
@@ -416,7 +515,7 @@ class ErgastApiServiceTest {
         assertEquals("Mercedes", rr.getConstructor().getName());
         assertEquals("German", rr.getConstructor().getNationality());
         assertNotNull(rr.getTime());
-        assertEquals("5400000", rr.getTime().getMillis());
+        assertEquals(5400000L, rr.getTime().getMillis());
         assertEquals("1:30:00.000", rr.getTime().getTime());
     }
 
@@ -468,158 +567,71 @@ class ErgastApiServiceTest {
                 .build();
         List<Race> races = List.of(race);
 
-        when(raceRepository.save(any(Race.class))).thenReturn(race);
-        when(raceRepository.findBySeasonAndRound(TEST_YEAR, 1)).thenReturn(Optional.empty());
+        when(raceBulkWriter.upsertSeason(TEST_YEAR, races)).thenReturn(new RaceBulkWriter.SeasonWrite(1, 0, 0));
 
         CompletableFuture<Void> future = ergastApiService.saveRacesInDatabaseAsync(races, TEST_YEAR);
+
         assertDoesNotThrow(() -> future.get(1, TimeUnit.SECONDS));
-        verify(raceRepository).save(race);
+        verify(raceBulkWriter).upsertSeason(TEST_YEAR, races);
     }
 
     @Test
-    void saveRacesInDatabaseAsync_WithExistingRace_OnlyAddsNewResults() {
-        // Create an existing race with one result
-        Race existingRace = Race.builder()
-                .season(TEST_YEAR)
-                .round(1)
-                .raceName("Test Race")
-                .results(new ArrayList<>())
-                .build();
-        
-        RaceResult existingResult = RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("hamilton")
-                        .build())
-                .build();
-        existingRace.addResult(existingResult);
-
-        // Create a new race with two results (one existing, one new)
-        Race newRace = Race.builder()
+    void saveRacesInDatabaseAsync_WhenWriterFails_CompletesWithoutThrowing() {
+        Race race = Race.builder()
                 .season(TEST_YEAR)
                 .round(1)
                 .raceName("Test Race")
-                .results(new ArrayList<>())
                 .build();
-        
-        RaceResult existingDriverResult = RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("hamilton")
-                        .build())
-                .build();
-        RaceResult newDriverResult = RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("verstappen")
-                        .build())
-                .build();
-        
-        newRace.addResult(existingDriverResult);
-        newRace.addResult(newDriverResult);
+        when(raceBulkWriter.upsertSeason(eq(TEST_YEAR), any())).thenThrow(new RuntimeException("Deadlock"));
 
-        when(raceRepository.findBySeasonAndRound(TEST_YEAR, 1)).thenReturn(Optional.of(existingRace));
-        when(raceRepository.save(any(Race.class))).thenAnswer(i -> i.getArgument(0));
+        CompletableFuture<Void> future = ergastApiService.saveRacesInDatabaseAsync(List.of(race), TEST_YEAR);
 
-        // Execute
-        CompletableFuture<Void> future = ergastApiService.saveRacesInDatabaseAsync(List.of(newRace), TEST_YEAR);
         assertDoesNotThrow(() -> future.get(1, TimeUnit.SECONDS));
-
-        // Verify
-        verify(raceRepository).save(argThat(savedRace -> 
-            savedRace.getResults().size() == 2 && // Should have both results
-            savedRace.getResults().stream()
-                .map(r -> r.getDriver().getDriverId())
-                .collect(Collectors.toSet())
-                .containsAll(Set.of("hamilton", "verstappen"))
-        ));
     }
 
     @Test
-    void saveRacesInDatabaseAsync_WithExistingRaceNoNewResults_DoesNotUpdate() {
-        // Create an existing race with one result
-        Race existingRace = Race.builder()
-                .season(TEST_YEAR)
-                .round(1)
-                .raceName("Test Race")
-                .results(new ArrayList<>())
-                .build();
-        
-        RaceResult existingResult = RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("hamilton")
-                        .build())
-                .build();
-        existingRace.addResult(existingResult);
+    void fetchAndSaveRound_WhenRoundHasResults_SavesOnlyThatRound() {
+        // Arrange
+        when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
+                .thenReturn(ResponseEntity.ok(createRaceResponse(createRaceData("5", "VER"))));
 
-        // Create a new race with the same result
-        Race newRace = Race.builder()
-                .season(TEST_YEAR)
-                .round(1)
-                .raceName("Test Race")
-                .results(new ArrayList<>())
-                .build();
-        
-        RaceResult sameResult = RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("hamilton")
-                        .build())
-                .build();
-        newRace.addResult(sameResult);
+        // Act
+        Optional<RaceDTO> result = ergastApiService.fetchAndSaveRound(TEST_YEAR, 5);
 
-        when(raceRepository.findBySeasonAndRound(TEST_YEAR, 1)).thenReturn(Optional.of(existingRace));
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(5, result.get().getRound());
+        verify(restTemplate).getForEntity(argThat((String url) -> url.endsWith("/2023/5/results.json?limit=100")),
+                eq(ErgastRaceResponse.class));
+        verify(raceBulkWriter).upsertSeason(eq(TEST_YEAR), argThat(races -> races.size() == 1 && races.get(0).getRound() == 5));
+        verify(cacheService, never()).evictRaceCache(anyInt());
+    }
 
-        // Execute
-        CompletableFuture<Void> future = ergastApiService.saveRacesInDatabaseAsync(List.of(newRace), TEST_YEAR);
-        assertDoesNotThrow(() -> future.get(1, TimeUnit.SECONDS));
+    @Test
+    void fetchAndSaveRound_WhenRoundNotRunYet_ReturnsEmpty() {
+        // Arrange
+        when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
+                .thenReturn(ResponseEntity.ok(createRaceResponse()));
 
-        // Verify that save was never called since there were no new results
-        verify(raceRepository, never()).save(any(Race.class));
+        // Act
+        Optional<RaceDTO> result = ergastApiService.fetchAndSaveRound(TEST_YEAR, 6);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(raceBulkWriter, never()).upsertSeason(anyInt(), any());
     }
 
     @Test
-    void saveRacesInDatabaseAsync_WithMultipleRaces_HandlesEachCorrectly() {
-        // Create two races: one existing and one new
-        Race existingRace = Race.builder()
-                .season(TEST_YEAR)
-                .round(1)
-                .raceName("Race 1")
-                .results(new ArrayList<>())
-                .build();
-        existingRace.addResult(RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("hamilton")
-                        .build())
-                .build());
-
-        Race newRace = Race.builder()
-                .season(TEST_YEAR)
-                .round(2)
-                .raceName("Race 2")
-                .results(new ArrayList<>())
-                .build();
-        newRace.addResult(RaceResult.builder()
-                .driver(RaceResult.Driver.builder()
-                        .driverId("verstappen")
-                        .build())
-                .build());
-
-        when(raceRepository.findBySeasonAndRound(TEST_YEAR, 1))
-                .thenReturn(Optional.of(existingRace));
-        when(raceRepository.findBySeasonAndRound(TEST_YEAR, 2))
-                .thenReturn(Optional.empty());
-        when(raceRepository.save(any(Race.class)))
-                .thenAnswer(i -> i.getArgument(0));
-
-        // Execute
-        CompletableFuture<Void> future = ergastApiService.saveRacesInDatabaseAsync(
-                List.of(existingRace, newRace), 
-                TEST_YEAR
-        );
-        assertDoesNotThrow(() -> future.get(1, TimeUnit.SECONDS));
+    void fetchAndSaveRound_WhenWriterFails_ThrowsException() {
+        // Arrange
+        when(restTemplate.getForEntity(anyString(), eq(ErgastRaceResponse.class)))
+                .thenReturn(ResponseEntity.ok(createRaceResponse(createRaceData("5", "VER"))));
+        when(raceBulkWriter.upsertSeason(eq(TEST_YEAR), any())).thenThrow(new RuntimeException("Deadlock"));
 
-        // Verify that only the new race was saved
-        verify(raceRepository, times(1)).save(argThat(race -> 
-            race.getRound() == 2 && 
-            race.getRaceName().equals("Race 2")
-        ));
+        // Act & Assert
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> ergastApiService.fetchAndSaveRound(TEST_YEAR, 5));
+        assertEquals("ROUND_SAVE_ERROR", exception.getCode());
     }
 
     private ErgastRaceResponse createRaceResponse(ErgastRaceResponse.RaceData... races) {
@@ -798,7 +810,7 @@ class ErgastApiServiceTest {
         assertNotNull(result.getConstructor());
         assertEquals("mercedes", result.getConstructor().getConstructorId());
         assertNotNull(result.getTime());
-        assertEquals("5400000", result.getTime().getMillis());
+        assertEquals(5400000L, result.getTime().getMillis());
     }
 
     @Test
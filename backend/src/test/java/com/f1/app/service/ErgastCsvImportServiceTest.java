@@ -0,0 +1,177 @@
+package com.f1.app.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.f1.app.dto.RaceResultDTO;
+import com.f1.app.exception.ServiceException;
+import com.f1.app.repository.DimensionRepository;
+
+class ErgastCsvImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DimensionRepository dimensionRepository;
+
+    @Mock
+    private ChampionSnapshot championSnapshot;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @TempDir
+    Path dumpDir;
+
+    private ErgastCsvImportService importService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        importService = new ErgastCsvImportService(jdbcTemplate, dimensionRepository, championSnapshot, cacheManager, redisCacheManager, 2);
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        when(redisCacheManager.getCache(anyString())).thenReturn(cache);
+
+        write("circuits.csv",
+                "circuitId,circuitRef,name,location,country,lat,lng,alt,url",
+                "3,bahrain,\"Bahrain International Circuit\",Sakhir,Bahrain,26.0325,50.5106,7,http://x");
+        write("drivers.csv",
+                "driverId,driverRef,number,code,forename,surname,dob,nationality,url",
+                "830,max_verstappen,33,VER,Max,Verstappen,1997-09-30,Dutch,http://x",
+                "815,perez,11,\\N,Sergio,Pérez,1990-01-26,Mexican,http://x");
+        write("constructors.csv",
+                "constructorId,constructorRef,name,nationality,url",
+                "9,red_bull,Red Bull,Austrian,http://x");
+        write("status.csv", "statusId,status", "1,Finished");
+        write("races.csv",
+                "raceId,year,round,circuitId,name,date,time,url",
+                "1098,2022,22,3,Abu Dhabi Grand Prix,2022-11-20,13:00:00,http://x",
+                "1074,2022,1,3,Bahrain Grand Prix,2022-03-20,15:00:00,http://x");
+        write("results.csv",
+                "resultId,raceId,driverId,constructorId,number,grid,position,positionText,positionOrder,points,laps,time,milliseconds,fastestLap,rank,fastestLapTime,fastestLapSpeed,statusId",
+                "1,1098,830,9,1,1,1,1,1,25,58,1:27:45.914,5265914,44,1,1:28.391,215.1,1",
+                "2,1098,815,9,11,4,\\N,R,20,0,40,\\N,\\N,\\N,\\N,\\N,\\N,1",
+                "3,1074,830,9,1,2,19,19,19,0,54,\\N,\\N,\\N,\\N,\\N,\\N,1");
+        write("driver_standings.csv",
+                "driverStandingsId,raceId,driverId,points,position,positionText,wins",
+                "10,1074,815,25,1,1,1",
+                "11,1098,830,454,1,1,15",
+                "12,1098,815,305,2,2,1");
+
+        when(jdbcTemplate.queryForList("SELECT DISTINCT season FROM races", Integer.class)).thenReturn(List.of());
+        when(jdbcTemplate.queryForList("SELECT year FROM champions", Integer.class)).thenReturn(List.of());
+        when(jdbcTemplate.queryForList("SELECT id, season, round FROM races")).thenReturn(List.of(
+                Map.of("id", 7L, "season", 2022, "round", 22),
+                Map.of("id", 8L, "season", 2022, "round", 1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void importDump_LoadsRacesResultsAndChampions() {
+        ErgastCsvImportService.ImportReport report = importService.importDump(dumpDir);
+
+        assertEquals(2, report.races());
+        assertEquals(3, report.results());
+        assertEquals(1, report.champions());
+
+        ArgumentCaptor<List<Object[]>> races = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO races"), races.capture());
+        assertArrayEquals(new Object[]{2022, 22, "Abu Dhabi Grand Prix", "2022-11-20", "13:00:00Z", "bahrain"},
+                races.getValue().get(0));
+
+        // batch size 2 splits the three results into two batches
+        ArgumentCaptor<List<Object[]>> results = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO race_results"), results.capture());
+        assertArrayEquals(new Object[]{7L, 1, "1", 25f, 1, 58, "Finished", "max_verstappen", "red_bull",
+                5265914L, "1:27:45.914"}, results.getAllValues().get(0).get(0));
+        Object[] retired = results.getAllValues().get(0).get(1);
+        assertEquals(20, retired[1]);
+        assertEquals("R", retired[2]);
+        assertNull(retired[9]);
+
+        // Each referenced driver is written once to the dimension table
+        ArgumentCaptor<Collection<RaceResultDTO.DriverDTO>> drivers = ArgumentCaptor.forClass(Collection.class);
+        verify(dimensionRepository).saveDrivers(drivers.capture());
+        assertEquals(List.of(new RaceResultDTO.DriverDTO("max_verstappen", "VER", "Max", "Verstappen", "Dutch"),
+                new RaceResultDTO.DriverDTO("perez", null, "Sergio", "Pérez", "Mexican")),
+                List.copyOf(drivers.getValue()));
+        verify(dimensionRepository).saveCircuits(argThat(circuits -> circuits.size() == 1));
+
+        ArgumentCaptor<List<Object[]>> champions = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO champions"), champions.capture());
+        assertArrayEquals(new Object[]{2022, "max_verstappen", "VER", "Max", "Verstappen", "Dutch", 454f, 15},
+                champions.getValue().get(0));
+        verify(cache, times(4)).clear();
+        verify(championSnapshot).refresh();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void importDump_WritesDimensionRowsBeforeRacesAndResults() {
+        importService.importDump(dumpDir);
+
+        InOrder inOrder = inOrder(dimensionRepository, jdbcTemplate);
+        inOrder.verify(dimensionRepository).saveConstructors(ArgumentMatchers.any());
+        inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO races"), ArgumentMatchers.any(List.class));
+        inOrder.verify(jdbcTemplate, times(2))
+                .batchUpdate(startsWith("INSERT INTO race_results"), ArgumentMatchers.any(List.class));
+    }
+
+    @Test
+    void importDump_SkipsSeasonsAlreadyInDatabase() {
+        when(jdbcTemplate.queryForList("SELECT DISTINCT season FROM races", Integer.class)).thenReturn(List.of(2022));
+        when(jdbcTemplate.queryForList("SELECT year FROM champions", Integer.class)).thenReturn(List.of(2022));
+
+        ErgastCsvImportService.ImportReport report = importService.importDump(dumpDir);
+
+        assertEquals(0, report.races());
+        assertEquals(0, report.results());
+        assertEquals(0, report.champions());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), ArgumentMatchers.<List<Object[]>>any());
+    }
+
+    @Test
+    void importDump_WhenDirectoryMissing_ThrowsServiceException() {
+        assertThrows(ServiceException.class, () -> importService.importDump(dumpDir.resolve("missing")));
+    }
+
+    private void write(String fileName, String... lines) throws IOException {
+        Files.write(dumpDir.resolve(fileName), List.of(lines));
+    }
+}
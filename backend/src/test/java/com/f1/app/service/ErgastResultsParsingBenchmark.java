@@ -0,0 +1,119 @@
+package com.f1.app.service;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.mockito.Mockito.mock;
+
+import com.f1.app.dto.ErgastRaceResponse;
+import com.f1.app.model.Race;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares allocation and CPU time of the tree-binding path (ErgastRaceResponse
+ * + mapToRace) against ErgastResultsStreamReader for a synthetic full-season
+ * payload. Run with: ./gradlew test --tests '*ErgastResultsParsingBenchmark' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ErgastResultsParsingBenchmark {
+
+    private static final int RACES = 22;
+    private static final int DRIVERS = 20;
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int ITERATIONS = 1000;
+
+    @Test
+    void compareTreeBindingWithStreamingReader() throws Exception {
+        byte[] payload = fullSeasonPayload().getBytes(StandardCharsets.UTF_8);
+
+        ObjectMapper mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ErgastApiService service = mock(ErgastApiService.class);
+        Method mapToRace = ErgastApiService.class.getDeclaredMethod("mapToRace", ErgastRaceResponse.RaceData.class);
+        mapToRace.setAccessible(true);
+        ErgastResultsStreamReader reader = new ErgastResultsStreamReader();
+
+        Sample tree = measure(() -> {
+            ErgastRaceResponse response = mapper.readValue(payload, ErgastRaceResponse.class);
+            int rows = 0;
+            for (ErgastRaceResponse.RaceData raceData : response.getMrData().getRaceTable().getRaces()) {
+                rows += ((Race) mapToRace.invoke(service, raceData)).getResults().size();
+            }
+            return rows;
+        });
+        Sample streaming = measure(() -> reader.read(new ByteArrayInputStream(payload)).races().stream()
+                .mapToInt(race -> race.getResults().size())
+                .sum());
+
+        System.out.printf("Full season payload: %d bytes, %d result rows%n", payload.length, tree.rows());
+        System.out.printf("tree binding : %,10d bytes/op  %,8d ns cpu/op%n", tree.bytesPerOp(), tree.cpuNanosPerOp());
+        System.out.printf("streaming    : %,10d bytes/op  %,8d ns cpu/op%n", streaming.bytesPerOp(), streaming.cpuNanosPerOp());
+
+        assertEquals(tree.rows(), streaming.rows());
+    }
+
+    private Sample measure(Callable<Integer> parse) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int rows = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            rows = parse.call();
+        }
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = parse.call();
+        }
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuBefore;
+        return new Sample(rows, bytes / ITERATIONS, cpu / ITERATIONS);
+    }
+
+    private String fullSeasonPayload() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"MRData\":{\"xmlns\":\"\",\"series\":\"f1\",\"url\":\"http://api.jolpi.ca/ergast/f1/2023/results.json\",")
+                .append("\"limit\":\"1000\",\"offset\":\"0\",\"total\":\"").append(RACES * DRIVERS).append("\",")
+                .append("\"RaceTable\":{\"season\":\"2023\",\"Races\":[");
+        for (int round = 1; round <= RACES; round++) {
+            if (round > 1) {
+                json.append(',');
+            }
+            json.append("{\"season\":\"2023\",\"round\":\"").append(round).append("\",")
+                    .append("\"url\":\"https://en.wikipedia.org/wiki/2023_Grand_Prix_").append(round).append("\",")
+                    .append("\"raceName\":\"Grand Prix ").append(round).append("\",")
+                    .append("\"Circuit\":{\"circuitId\":\"circuit_").append(round).append("\",")
+                    .append("\"url\":\"http://en.wikipedia.org/wiki/Circuit_").append(round).append("\",")
+                    .append("\"circuitName\":\"Circuit ").append(round).append("\",")
+                    .append("\"Location\":{\"lat\":\"26.0325\",\"long\":\"50.5106\",\"locality\":\"City\",\"country\":\"Country\"}},")
+                    .append("\"date\":\"2023-03-05\",\"time\":\"15:00:00Z\",\"Results\":[");
+            for (int position = 1; position <= DRIVERS; position++) {
+                if (position > 1) {
+                    json.append(',');
+                }
+                json.append("{\"number\":\"").append(position).append("\",\"position\":\"").append(position)
+                        .append("\",\"positionText\":\"").append(position).append("\",\"points\":\"").append(Math.max(0, 26 - position))
+                        .append("\",\"Driver\":{\"driverId\":\"driver_").append(position).append("\",\"permanentNumber\":\"").append(position)
+                        .append("\",\"code\":\"D").append(position).append("\",\"url\":\"http://en.wikipedia.org/wiki/Driver_").append(position)
+                        .append("\",\"givenName\":\"Given").append(position).append("\",\"familyName\":\"Family").append(position)
+                        .append("\",\"dateOfBirth\":\"1997-09-30\",\"nationality\":\"Dutch\"},")
+                        .append("\"Constructor\":{\"constructorId\":\"team_").append(position % 10)
+                        .append("\",\"url\":\"http://en.wikipedia.org/wiki/Team_").append(position % 10)
+                        .append("\",\"name\":\"Team ").append(position % 10).append("\",\"nationality\":\"Austrian\"},")
+                        .append("\"grid\":\"").append(position).append("\",\"laps\":\"57\",\"status\":\"Finished\",")
+                        .append("\"Time\":{\"millis\":\"5636736\",\"time\":\"1:33:56.736\"},")
+                        .append("\"FastestLap\":{\"rank\":\"").append(position).append("\",\"lap\":\"44\",\"Time\":{\"time\":\"1:36.236\"},")
+                        .append("\"AverageSpeed\":{\"units\":\"kph\",\"speed\":\"202.452\"}}}");
+            }
+            json.append("]}");
+        }
+        return json.append("]}}}").toString();
+    }
+
+    private record Sample(int rows, long bytesPerOp, long cpuNanosPerOp) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.f1.app.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+
+class ErgastResultsStreamReaderTest {
+
+    private final ErgastResultsStreamReader reader = new ErgastResultsStreamReader();
+
+    @Test
+    void read_WithFullPage_MapsStoredFieldsAndSkipsTheRest() throws IOException {
+        String json = """
+                {"MRData": {"xmlns": "", "series": "f1", "url": "http://api.jolpi.ca/ergast/f1/2023/results.json",
+                  "limit": "100", "offset": "0", "total": "440",
+                  "RaceTable": {"season": "2023", "Races": [{
+                    "season": "2023", "round": "1", "url": "https://en.wikipedia.org/wiki/2023_Bahrain_Grand_Prix",
+                    "raceName": "Bahrain Grand Prix",
+                    "Circuit": {"circuitId": "bahrain", "url": "http://en.wikipedia.org/wiki/Bahrain_International_Circuit",
+                      "circuitName": "Bahrain International Circuit",
+                      "Location": {"lat": "26.0325", "long": "50.5106", "locality": "Sakhir", "country": "Bahrain"}},
+                    "date": "2023-03-05", "time": "15:00:00Z",
+                    "Results": [{"number": "1", "position": "1", "positionText": "1", "points": "25",
+                      "Driver": {"driverId": "max_verstappen", "permanentNumber": "33", "code": "VER",
+                        "url": "http://en.wikipedia.org/wiki/Max_Verstappen", "givenName": "Max",
+                        "familyName": "Verstappen", "dateOfBirth": "1997-09-30", "nationality": "Dutch"},
+                      "Constructor": {"constructorId": "red_bull", "url": "http://en.wikipedia.org/wiki/Red_Bull_Racing",
+                        "name": "Red Bull", "nationality": "Austrian"},
+                      "grid": "1", "laps": "57", "status": "Finished",
+                      "Time": {"millis": "5636736", "time": "1:33:56.736"},
+                      "FastestLap": {"rank": "6", "lap": "44", "Time": {"time": "1:36.236"},
+                        "AverageSpeed": {"units": "kph", "speed": "202.452"}}}]
+                  }]}}}
+                """;
+
+        ResultsPage page = read(json);
+
+        assertEquals(440, page.total());
+        assertEquals(1, page.races().size());
+        Race race = page.races().get(0);
+        assertEquals(2023, race.getSeason());
+        assertEquals(1, race.getRound());
+        assertEquals("Bahrain Grand Prix", race.getRaceName());
+        assertEquals("2023-03-05", race.getDate());
+        assertEquals("15:00:00Z", race.getTime());
+        assertEquals("bahrain", race.getCircuit().getCircuitId());
+        assertEquals("Sakhir", race.getCircuit().getLocality());
+        assertEquals("Bahrain", race.getCircuit().getCountry());
+
+        RaceResult result = race.getResults().get(0);
+        assertEquals(race, result.getRace());
+        assertEquals(1, result.getPosition());
+        assertEquals("1", result.getPositionText());
+        assertEquals(25f, result.getPoints());
+        assertEquals(1, result.getGrid());
+        assertEquals(57, result.getLaps());
+        assertEquals("Finished", result.getStatus());
+        assertEquals("max_verstappen", result.getDriver().getDriverId());
+        assertEquals("VER", result.getDriver().getCode());
+        assertEquals("Dutch", result.getDriver().getNationality());
+        assertEquals("red_bull", result.getConstructor().getConstructorId());
+        assertEquals("Austrian", result.getConstructor().getNationality());
+        assertEquals(5636736L, result.getTime().getMillis());
+        assertEquals("1:33:56.736", result.getTime().getTime());
+    }
+
+    @Test
+    void read_WhenRaceMissesRound_SkipsRace() throws IOException {
+        ResultsPage page = read("""
+                {"MRData": {"total": "1", "RaceTable": {"Races": [{"season": "2023", "raceName": "No round"}]}}}
+                """);
+
+        assertEquals(0, page.races().size());
+    }
+
+    @Test
+    void read_WhenRaceTableMissing_ReturnsNull() throws IOException {
+        assertNull(read("{\"MRData\": {\"total\": \"1\"}}"));
+        assertNull(read("{}"));
+    }
+
+    private ResultsPage read(String json) throws IOException {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.f1.app.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.f1.app.model.Race;
+import com.f1.app.model.RaceResult;
+
+class RaceMergerTest {
+
+    @Test
+    void mergePages_JoinsRaceSplitAcrossPages() {
+        ResultsPage first = new ResultsPage(4, List.of(race(1, "hamilton", "verstappen"), race(2, "leclerc")));
+        ResultsPage second = new ResultsPage(4, List.of(race(2, "sainz")));
+
+        List<Race> races = RaceMerger.mergePages(List.of(first, second));
+
+        assertEquals(2, races.size());
+        assertEquals(List.of("hamilton", "verstappen"), driverIds(races.get(0)));
+        assertEquals(List.of("leclerc", "sainz"), driverIds(races.get(1)));
+        races.get(1).getResults().forEach(result -> assertEquals(races.get(1), result.getRace()));
+    }
+
+    @Test
+    void mergePages_KeepsResultRepeatedOnTwoPagesOnce() {
+        Race overlap = race(1, "verstappen");
+        overlap.getResults().get(0).setPosition(2);
+        ResultsPage first = new ResultsPage(3, List.of(race(1, "hamilton", "verstappen")));
+        ResultsPage second = new ResultsPage(3, List.of(overlap));
+
+        List<Race> races = RaceMerger.mergePages(List.of(first, second));
+
+        assertEquals(List.of("hamilton", "verstappen"), driverIds(races.get(0)));
+        assertEquals(2, races.get(0).getResults().get(1).getPosition());
+    }
+
+    @Test
+    void mergePages_KeepsRoundOrder() {
+        ResultsPage first = new ResultsPage(3, List.of(race(3, "hamilton"), race(1, "leclerc")));
+        ResultsPage second = new ResultsPage(3, List.of(race(2, "sainz")));
+
+        List<Race> races = RaceMerger.mergePages(List.of(first, second));
+
+        assertEquals(List.of(3, 1, 2), races.stream().map(Race::getRound).toList());
+    }
+
+    private static List<String> driverIds(Race race) {
+        return race.getResults().stream().map(result -> result.getDriver().getDriverId()).toList();
+    }
+
+    private static Race race(int round, String... driverIds) {
+        Race race = Race.builder()
+                .season(2023)
+                .round(round)
+                .raceName("Race " + round)
+                .results(new ArrayList<>())
+                .build();
+        for (String driverId : driverIds) {
+            race.addResult(RaceResult.builder()
+                    .position(1)
+                    .driver(RaceResult.Driver.builder().driverId(driverId).build())
+                    .build());
+        }
+        return race;
+    }
+}
@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,23 +15,27 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.f1.app.dto.RaceDTO;
 import com.f1.app.model.Race;
-import com.f1.app.repository.RaceRepository;
+import com.f1.app.repository.RaceQueryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class RaceServiceTest {
     private final int TEST_YEAR = 2023;
     
     @Mock
-    private RaceRepository raceRepository;
+    private RaceQueryRepository raceQueryRepository;
     
     @Mock
     private ErgastApiService ergastApiService;
@@ -37,11 +44,14 @@ class RaceServiceTest {
     private CacheService cacheService;
     
     @Mock
-    private RedisCacheManager redisCacheManager;
-    
-    @Mock
-    private org.springframework.cache.Cache redisCache;
-    
+    private StaleDataStore staleDataStore;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("races");
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
     @InjectMocks
     private RaceService raceService;
     
@@ -65,30 +75,26 @@ class RaceServiceTest {
         testRaceDTOs.add(raceDTO);
         
         doNothing().when(cacheService).evictRaceCache(anyInt());
-        
-        // Mock Redis cache behavior
-        when(redisCacheManager.getCache(anyString())).thenReturn(redisCache);
-        when(redisCache.get(anyInt())).thenReturn(null);
     }
 
     @Test
     void getRacesByYear_WhenInDatabase_ReturnsFromDatabase() {
         // Arrange
-        when(raceRepository.findBySeason(TEST_YEAR)).thenReturn(testRaces);
+        when(raceQueryRepository.findBySeason(TEST_YEAR)).thenReturn(testRaceDTOs);
 
         // Act
         List<RaceDTO> result = raceService.getRacesByYear(TEST_YEAR);
 
         // Assert
         assertEquals(testRaceDTOs.size(), result.size());
-        verify(raceRepository).findBySeason(TEST_YEAR);
+        verify(raceQueryRepository).findBySeason(TEST_YEAR);
         verify(ergastApiService, never()).fetchAndSaveRaces(anyInt(), anyString());
     }
 
     @Test
     void getRacesByYear_WhenNotInDatabase_FetchesFromAPI() {
         // Arrange
-        when(raceRepository.findBySeason(TEST_YEAR)).thenReturn(new ArrayList<>());
+        when(raceQueryRepository.findBySeason(TEST_YEAR)).thenReturn(new ArrayList<>());
         when(ergastApiService.fetchAndSaveRaces(eq(TEST_YEAR), anyString())).thenReturn(testRaceDTOs);
 
         // Act
@@ -96,14 +102,14 @@ class RaceServiceTest {
 
         // Assert
         assertEquals(testRaceDTOs.size(), result.size());
-        verify(raceRepository).findBySeason(TEST_YEAR);
+        verify(raceQueryRepository).findBySeason(TEST_YEAR);
         verify(ergastApiService).fetchAndSaveRaces(eq(TEST_YEAR), anyString());
     }
 
     @Test
     void getRacesByYear_WhenDatabaseThrowsException_FetchesFromAPI() {
         // Arrange
-        when(raceRepository.findBySeason(TEST_YEAR))
+        when(raceQueryRepository.findBySeason(TEST_YEAR))
             .thenThrow(new RuntimeException("Database error"));
         when(ergastApiService.fetchAndSaveRaces(eq(TEST_YEAR), anyString()))
             .thenReturn(testRaceDTOs);
@@ -113,14 +119,14 @@ class RaceServiceTest {
 
         // Assert
         assertEquals(testRaceDTOs.size(), result.size());
-        verify(raceRepository).findBySeason(TEST_YEAR);
+        verify(raceQueryRepository).findBySeason(TEST_YEAR);
         verify(ergastApiService).fetchAndSaveRaces(eq(TEST_YEAR), anyString());
     }
 
     @Test
     void getRacesByYear_WhenAllFail_ReturnsEmptyList() {
         // Arrange
-        when(raceRepository.findBySeason(TEST_YEAR))
+        when(raceQueryRepository.findBySeason(TEST_YEAR))
             .thenThrow(new RuntimeException("Database error"));
         when(ergastApiService.fetchAndSaveRaces(eq(TEST_YEAR), anyString()))
             .thenReturn(new ArrayList<>());
@@ -130,10 +136,38 @@ class RaceServiceTest {
 
         // Assert
         assertTrue(result.isEmpty());
-        verify(raceRepository).findBySeason(TEST_YEAR);
+        assertNull(cacheManager.getCache("races").get(TEST_YEAR));
+        verify(raceQueryRepository).findBySeason(TEST_YEAR);
         verify(ergastApiService).fetchAndSaveRaces(eq(TEST_YEAR), anyString());
     }
 
+    @Test
+    void getRacesByYear_WhenLoaded_CachesUnmodifiableSeason() {
+        // Arrange
+        when(raceQueryRepository.findBySeason(TEST_YEAR)).thenReturn(testRaceDTOs);
+
+        // Act
+        List<RaceDTO> result = raceService.getRacesByYear(TEST_YEAR);
+
+        // Assert
+        assertEquals(testRaceDTOs, result);
+        assertSame(result, cacheManager.getCache("races").get(TEST_YEAR).get());
+        assertThrows(UnsupportedOperationException.class, () -> result.add(testRaceDTOs.get(0)));
+    }
+
+    @Test
+    void getRacesByYear_WhenCached_SkipsLoad() {
+        // Arrange
+        cacheManager.getCache("races").put(TEST_YEAR, testRaceDTOs);
+
+        // Act
+        List<RaceDTO> result = raceService.getRacesByYear(TEST_YEAR);
+
+        // Assert
+        assertSame(testRaceDTOs, result);
+        verify(raceQueryRepository, never()).findBySeason(anyInt());
+    }
+
     @Test
     void evictRaceCache_ShouldEvictCache() {
         // Arrange
@@ -0,0 +1,150 @@
+package com.f1.app.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.f1.app.exception.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+    }
+
+    @Test
+    void execute_ConcurrentMissesForSameKey_ShareOneLoad() throws Exception {
+        int callers = 5;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        List<String> result = List.of("race");
+
+        CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() ->
+                requestCoalescer.execute("races", 2023, () -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    await(releaseLoad);
+                    return result;
+                }));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+        List<CompletableFuture<List<String>>> waiters = new ArrayList<>();
+        for (int i = 1; i < callers; i++) {
+            waiters.add(CompletableFuture.supplyAsync(() -> requestCoalescer.execute("races", 2023, () -> {
+                loads.incrementAndGet();
+                return List.of();
+            })));
+        }
+        while (meterRegistry.find("cache.coalesced.requests").counter() == null
+                || meterRegistry.get("cache.coalesced.requests").counter().count() < callers - 1) {
+            Thread.sleep(5);
+        }
+        releaseLoad.countDown();
+
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        for (CompletableFuture<List<String>> waiter : waiters) {
+            assertSame(result, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, meterRegistry.get("cache.coalesced.requests").tag("cache", "races").counter().count());
+    }
+
+    @Test
+    void execute_AfterLoadCompletes_LoadsAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCoalescer.execute("champions", 2023, loads::incrementAndGet);
+        requestCoalescer.execute("champions", 2023, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, meterRegistry.get("cache.coalesced.inflight").gauge().value());
+    }
+
+    @Test
+    void execute_WhenLoadFails_PropagatesException() {
+        ServiceException failure = new ServiceException("Failed to fetch races", "RACES_FETCH_ERROR", 500);
+
+        ServiceException thrown = assertThrows(ServiceException.class,
+                () -> requestCoalescer.execute("races", 2023, () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        int retried = requestCoalescer.execute("races", 2023, () -> 1);
+        assertEquals(1, retried);
+    }
+
+    @Test
+    void execute_WithCache_StoresValueBeforeReleasingLoad() {
+        List<Double> inFlightAtPut = new ArrayList<>();
+        ConcurrentMapCache cache = new ConcurrentMapCache("races") {
+            @Override
+            public void put(Object key, Object value) {
+                inFlightAtPut.add(meterRegistry.get("cache.coalesced.inflight").gauge().value());
+                super.put(key, value);
+            }
+        };
+        List<String> result = List.of("race");
+
+        List<String> loaded = requestCoalescer.execute(cache, 2023, () -> result, races -> !races.isEmpty());
+
+        assertSame(result, loaded);
+        assertSame(result, cache.get(2023).get());
+        assertEquals(List.of(1.0), inFlightAtPut);
+        assertEquals(0, meterRegistry.get("cache.coalesced.inflight").gauge().value());
+    }
+
+    @Test
+    void execute_WithCache_ServesCachedValueWithoutLoading() {
+        ConcurrentMapCache cache = new ConcurrentMapCache("races");
+        AtomicInteger loads = new AtomicInteger();
+        List<String> cached = List.of("race");
+        cache.put(2023, cached);
+
+        List<String> result = requestCoalescer.execute(cache, 2023, () -> {
+            loads.incrementAndGet();
+            return List.<String>of();
+        }, races -> !races.isEmpty());
+
+        assertSame(cached, result);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void execute_WithCache_DoesNotStoreRejectedValue() {
+        ConcurrentMapCache cache = new ConcurrentMapCache("races");
+
+        List<String> result = requestCoalescer.execute(cache, 2023, List::<String>of, races -> !races.isEmpty());
+
+        assertTrue(result.isEmpty());
+        assertNull(cache.get(2023));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,9 +4,13 @@ import java.time.LocalDate;
 import java.time.Year;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -14,9 +18,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
+import com.f1.app.dto.RaceDTO;
+import com.f1.app.exception.ServiceException;
 import com.f1.app.model.Race;
 import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.RaceRepository;
 import com.f1.app.repository.SeasonInfoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +40,24 @@ class ScheduledUpdateServiceTest {
     @Mock
     private SeasonInfoRepository seasonInfoRepository;
 
+    @Mock
+    private RaceRepository raceRepository;
+
     @Mock
     private RaceService raceService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache raceCache;
+
+    @Mock
+    private ChampionSnapshot championSnapshot;
+
+    @Mock
+    private SeasonCachePolicy seasonCachePolicy;
+
     @InjectMocks
     private ScheduledUpdateService scheduledUpdateService;
 
@@ -50,15 +74,20 @@ class ScheduledUpdateServiceTest {
 
         when(ergastApiService.fetchLastRaceOfSeason(currentYear))
             .thenReturn(Optional.of(lastRace));
+        when(ergastApiService.fetchAndSaveRound(currentYear, 1))
+            .thenReturn(Optional.of(RaceDTO.builder().season(currentYear).round(1).build()));
+        when(cacheManager.getCache("races")).thenReturn(raceCache);
 
         // Act
         scheduledUpdateService.scheduledTasks();
 
         // Assert
         verify(raceService).evictRaceCache(currentYear);
+        verify(raceCache).evict(currentYear);
         verify(championService).initializeChampionData();
         verify(ergastApiService).fetchLastRaceOfSeason(currentYear);
-        verify(seasonInfoRepository).save(any(SeasonInfo.class));
+        verify(ergastApiService).fetchAndSaveRound(currentYear, 2);
+        verify(seasonInfoRepository).save(argThat(seasonInfo -> seasonInfo.getLastIngestedRound() == 1));
     }
 
     @Test
@@ -71,9 +100,10 @@ class ScheduledUpdateServiceTest {
         scheduledUpdateService.scheduledTasks();
 
         // Assert
-        verify(raceService).evictRaceCache(currentYear);
+        verify(raceService, never()).evictRaceCache(currentYear);
         verify(championService).initializeChampionData();
         verify(ergastApiService).fetchLastRaceOfSeason(currentYear);
+        verify(ergastApiService, never()).fetchAndSaveRound(anyInt(), anyInt());
         verify(seasonInfoRepository, never()).save(any(SeasonInfo.class));
     }
 
@@ -94,7 +124,7 @@ class ScheduledUpdateServiceTest {
         scheduledUpdateService.scheduledTasks();
 
         // Assert
-        verify(raceService).evictRaceCache(currentYear);
+        verify(raceService, never()).evictRaceCache(currentYear);
         verify(seasonInfoRepository).save(argThat(seasonInfo -> 
             !seasonInfo.isChampionAvailableForCurrentYear()));
     }
@@ -116,8 +146,119 @@ class ScheduledUpdateServiceTest {
         scheduledUpdateService.scheduledTasks();
 
         // Assert
-        verify(raceService).evictRaceCache(currentYear);
+        verify(raceService, never()).evictRaceCache(currentYear);
         verify(seasonInfoRepository).save(argThat(seasonInfo -> 
             seasonInfo.isChampionAvailableForCurrentYear()));
+        verify(championSnapshot).refresh();
+        verify(seasonCachePolicy).update(argThat(seasonInfo -> seasonInfo.getLastRoundNumber() == 22));
+    }
+
+    @Test
+    void scheduledTasks_WhenRoundsAlreadyIngested_FetchesOnlyNewerRounds() {
+        // Arrange
+        SeasonInfo existing = SeasonInfo.builder()
+            .year(currentYear)
+            .lastRoundNumber(22)
+            .lastIngestedRound(5)
+            .build();
+        Race lastRace = Race.builder()
+            .season(currentYear)
+            .round(22)
+            .date(LocalDate.now().plusMonths(1).toString())
+            .build();
+
+        when(ergastApiService.fetchLastRaceOfSeason(currentYear)).thenReturn(Optional.of(lastRace));
+        when(seasonInfoRepository.findByYear(currentYear)).thenReturn(existing);
+        when(ergastApiService.fetchAndSaveRound(currentYear, 6))
+            .thenReturn(Optional.of(RaceDTO.builder().season(currentYear).round(6).build()));
+        when(cacheManager.getCache("races")).thenReturn(raceCache);
+
+        // Act
+        scheduledUpdateService.scheduledTasks();
+
+        // Assert
+        verify(ergastApiService, never()).fetchAndSaveRound(currentYear, 5);
+        verify(ergastApiService).fetchAndSaveRound(currentYear, 6);
+        verify(ergastApiService).fetchAndSaveRound(currentYear, 7);
+        verify(raceRepository, never()).findMaxRoundBySeason(anyInt());
+        ArgumentCaptor<SeasonInfo> saved = ArgumentCaptor.forClass(SeasonInfo.class);
+        verify(seasonInfoRepository).save(saved.capture());
+        assertSame(existing, saved.getValue());
+        assertEquals(6, saved.getValue().getLastIngestedRound());
+        verify(raceService).evictRaceCache(currentYear);
+    }
+
+    @Test
+    void scheduledTasks_WhenRoundWriteFails_KeepsWatermarkOnLastStoredRound() {
+        // Arrange
+        SeasonInfo existing = SeasonInfo.builder()
+            .year(currentYear)
+            .lastRoundNumber(22)
+            .lastIngestedRound(5)
+            .build();
+        Race lastRace = Race.builder()
+            .season(currentYear)
+            .round(22)
+            .date(LocalDate.now().plusMonths(1).toString())
+            .build();
+
+        when(ergastApiService.fetchLastRaceOfSeason(currentYear)).thenReturn(Optional.of(lastRace));
+        when(seasonInfoRepository.findByYear(currentYear)).thenReturn(existing);
+        when(ergastApiService.fetchAndSaveRound(currentYear, 6))
+            .thenThrow(new ServiceException("Failed to save round to database", "ROUND_SAVE_ERROR", 500));
+
+        // Act
+        scheduledUpdateService.scheduledTasks();
+
+        // Assert
+        verify(ergastApiService, never()).fetchAndSaveRound(currentYear, 7);
+        verify(seasonInfoRepository).save(argThat(seasonInfo -> seasonInfo.getLastIngestedRound() == 5));
+        verify(raceService, never()).evictRaceCache(currentYear);
+    }
+
+    @Test
+    void scheduledTasks_WhenNoWatermark_StartsAfterHighestStoredRound() {
+        // Arrange
+        Race lastRace = Race.builder()
+            .season(currentYear)
+            .round(22)
+            .date(LocalDate.now().plusMonths(1).toString())
+            .build();
+
+        when(ergastApiService.fetchLastRaceOfSeason(currentYear)).thenReturn(Optional.of(lastRace));
+        when(raceRepository.findMaxRoundBySeason(currentYear)).thenReturn(3);
+
+        // Act
+        scheduledUpdateService.scheduledTasks();
+
+        // Assert
+        verify(ergastApiService).fetchAndSaveRound(currentYear, 4);
+        verify(seasonInfoRepository).save(argThat(seasonInfo -> seasonInfo.getLastIngestedRound() == 3));
+        verify(raceService, never()).evictRaceCache(currentYear);
+    }
+
+    @Test
+    void scheduledTasks_WhenSeasonFullyIngested_MakesNoRoundRequests() {
+        // Arrange
+        SeasonInfo existing = SeasonInfo.builder()
+            .year(currentYear)
+            .lastRoundNumber(22)
+            .lastIngestedRound(22)
+            .build();
+        Race lastRace = Race.builder()
+            .season(currentYear)
+            .round(22)
+            .date(LocalDate.now().minusMonths(1).toString())
+            .build();
+
+        when(ergastApiService.fetchLastRaceOfSeason(currentYear)).thenReturn(Optional.of(lastRace));
+        when(seasonInfoRepository.findByYear(currentYear)).thenReturn(existing);
+
+        // Act
+        scheduledUpdateService.scheduledTasks();
+
+        // Assert
+        verify(ergastApiService, never()).fetchAndSaveRound(anyInt(), anyInt());
+        verify(seasonInfoRepository).save(existing);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.f1.app.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+
+import com.f1.app.model.SeasonInfo;
+import com.f1.app.repository.SeasonInfoRepository;
+
+class SeasonCachePolicyTest {
+
+    // 2024-06-22 is a Saturday, 2024-06-26 a Wednesday
+    private static final LocalDate SATURDAY = LocalDate.of(2024, 6, 22);
+    private static final LocalDate WEDNESDAY = LocalDate.of(2024, 6, 26);
+
+    @Test
+    void ttl_ForPastSeason_NeverExpires() {
+        assertNull(policy(WEDNESDAY, season(LocalDate.of(2024, 12, 8))).ttl(2008));
+    }
+
+    @Test
+    void ttl_ForCurrentSeasonMidweek_IsShort() {
+        assertEquals(SeasonCachePolicy.LIVE_SEASON_TTL, policy(WEDNESDAY, season(LocalDate.of(2024, 12, 8))).ttl(2024));
+    }
+
+    @Test
+    void ttl_ForCurrentSeasonOnRaceWeekend_IsShorter() {
+        assertEquals(SeasonCachePolicy.RACE_WEEKEND_TTL, policy(SATURDAY, season(LocalDate.of(2024, 12, 8))).ttl(2024));
+    }
+
+    @Test
+    void ttl_AfterFinalRace_WeekendsAreNotRaceWeekends() {
+        assertEquals(SeasonCachePolicy.LIVE_SEASON_TTL, policy(SATURDAY, season(LocalDate.of(2024, 6, 9))).ttl(2024));
+    }
+
+    private static SeasonCachePolicy policy(LocalDate today, SeasonInfo seasonInfo) {
+        Clock clock = Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        SeasonCachePolicy policy = new SeasonCachePolicy(mock(SeasonInfoRepository.class), clock);
+        policy.update(seasonInfo);
+        return policy;
+    }
+
+    private static SeasonInfo season(LocalDate lastRaceDate) {
+        return SeasonInfo.builder().year(2024).lastRaceDate(lastRaceDate).build();
+    }
+}
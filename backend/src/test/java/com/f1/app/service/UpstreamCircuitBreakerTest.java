@@ -0,0 +1,79 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.f1.app.exception.UpstreamUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UpstreamCircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void onFailure_AfterThreshold_OpensAndRejects() {
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(2, Duration.ofMinutes(1), meterRegistry);
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertThrows(UpstreamUnavailableException.class, circuitBreaker::acquirePermission);
+        assertEquals(1, meterRegistry.get("ergast.upstream.circuit.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("ergast.upstream.circuit.state").gauge().value());
+    }
+
+    @Test
+    void acquirePermission_WhenOpenDurationElapsed_AllowsSingleProbe() {
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(1, Duration.ZERO, meterRegistry);
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        circuitBreaker.acquirePermission();
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertThrows(UpstreamUnavailableException.class, circuitBreaker::acquirePermission);
+
+        circuitBreaker.onSuccess();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void onFailure_WhenProbeFails_ReopensCircuit() {
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(3, Duration.ZERO, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onFailure();
+        }
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+    }
+
+    @Test
+    void onIgnored_ReleasesProbeWithoutClosing() {
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(1, Duration.ZERO, meterRegistry);
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onIgnored();
+        circuitBreaker.acquirePermission();
+
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+    }
+}
@@ -0,0 +1,70 @@
+package com.f1.app.service;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.f1.app.exception.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UpstreamRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new UpstreamRateLimiter(10, 1, 1, 2,
+                Duration.ofMillis(500), Duration.ofMillis(500), meterRegistry);
+    }
+
+    @Test
+    void acquire_WithinBurst_DoesNotWait() {
+        long start = System.nanoTime();
+
+        rateLimiter.acquire(UpstreamPriority.INTERACTIVE);
+        rateLimiter.acquire(UpstreamPriority.INTERACTIVE);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 50);
+        assertEquals(2, meterRegistry.get("ergast.upstream.queue.wait").tag("priority", "interactive").timer().count());
+    }
+
+    @Test
+    void onThrottled_HalvesRateAndRecoversOnSuccess() {
+        rateLimiter.onThrottled(Duration.ZERO);
+        assertEquals(5, rateLimiter.currentRate());
+
+        rateLimiter.onSuccess();
+        assertEquals(6, rateLimiter.currentRate());
+        assertEquals(1, meterRegistry.get("ergast.upstream.throttled").counter().count());
+    }
+
+    @Test
+    void acquire_WhenRetryAfterExceedsMaxWait_RejectsCall() {
+        rateLimiter.onThrottled(Duration.ofSeconds(30));
+
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> rateLimiter.acquire(UpstreamPriority.BACKGROUND));
+
+        assertEquals("UPSTREAM_RATE_LIMITED", exception.getCode());
+        assertEquals(1, meterRegistry.get("ergast.upstream.rejected").tag("priority", "background").counter().count());
+    }
+
+    @Test
+    void acquire_WhenTokensExhausted_WaitsForRefill() {
+        rateLimiter.acquire(UpstreamPriority.INTERACTIVE);
+        rateLimiter.acquire(UpstreamPriority.INTERACTIVE);
+
+        long start = System.nanoTime();
+        rateLimiter.acquire(UpstreamPriority.INTERACTIVE);
+
+        // One token at 10 req/s takes roughly 100 ms to refill
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 50);
+    }
+}
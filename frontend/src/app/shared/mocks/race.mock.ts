@@ -29,15 +29,16 @@ export const mockCircuit: Circuit = {
 };
 
 export const mockResult: Result = {
-  position: '1',
-  points: '25',
-  grid: '1',
-  laps: '58',
+  position: 1,
+  positionText: '1',
+  points: 25,
+  grid: 1,
+  laps: 58,
   status: 'Finished',
   driver: mockDriver,
   constructor: mockConstructor,
   time: {
-    millis: '5259892',
+    millis: 5259892,
     time: '1:27:39.892'
   }
 };
@@ -3,10 +3,11 @@ import { Constructor } from './constructor.interface';
 import { Time } from './time.interface';
 
 export interface Result {
-  position: string;
-  points: string;
-  grid: string;
-  laps: string;
+  position: number | null;
+  positionText?: string;
+  points: number | null;
+  grid: number | null;
+  laps: number | null;
   status: string;
   driver: Driver;
   constructor: Constructor;
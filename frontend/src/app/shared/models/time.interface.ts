@@ -1,4 +1,4 @@
 export interface Time {
-  millis?: string;
+  millis?: number;
   time: string;
 } 
\ No newline at end of file